@@ -1,5 +1,5 @@
 import { UserInfo } from "@/stores/UserInfoStore";
-import { CreateListingRequest, CreateListingResponse, DeleteListingRequest, ErrorResponse, GetUserInfoRequest, Listing, RegisterUserRequest, RegisterUserResponse, UpdateListingRequest, ChatRoom, ChatRoomDetail, Message, UpdateUserRequest, UpdateUserResponse, UploadAvatarRequest, UploadAvatarResponse, VerifyUserRequest, VerifyUserResponse, type LoginRequest, type LoginResponse, GetSpecificListingRequest, GetListingsRequest, SaveListingRequest, SaveListingResponse, UnsaveListingRequest, UnsaveListingResponse, CheckSavedStatusRequest, CheckSavedStatusResponse, GetSavedListingsResponse, GetSavedListingIdsResponse, MarkMessagesAsReadResponse, MarkMessagesAsReadRequest, InitChatRoomRequest, InitChatRoomResponse, CreateReportRequest, ReportDTO, ReportsPageResponse, UpdateReportRequest, GetSpecificListingResponse, GetSpecificUserListingsRequest, FollowUserRequest, FollowUserResponse, UnfollowUserRequest, UnfollowUserResponse, CheckFollowingStatusRequest, CheckFollowingStatusResponse, GetFollowingListResponse, GetFollowersListResponse, GetFollowCountsRequest, GetFollowCountsResponse, UnreadCountResponse, MarkListingAsSoldRequest, MarkListingAsSoldResponse, DeleteAccountRequest, DeleteAccountResponse, CreateReviewRequest, UpdateReviewRequest, GetUserRatingStatsResponse, ReviewResponse, GetReviewsRequest, Review } from "./WebTypes";
+import { CreateListingRequest, CreateListingResponse, DeleteListingRequest, ErrorResponse, GetUserInfoRequest, Listing, RegisterUserRequest, RegisterUserResponse, UpdateListingRequest, ChatRoom, ChatRoomDetail, Message, UpdateUserRequest, UpdateUserResponse, UploadAvatarRequest, UploadAvatarResponse, VerifyUserRequest, VerifyUserResponse, type LoginRequest, type LoginResponse, GetSpecificListingRequest, GetListingsRequest, SaveListingRequest, SaveListingResponse, UnsaveListingRequest, UnsaveListingResponse, CheckSavedStatusRequest, CheckSavedStatusResponse, GetSavedListingsResponse, GetSavedListingIdsResponse, MarkMessagesAsReadResponse, MarkMessagesAsReadRequest, InitChatRoomRequest, InitChatRoomResponse, CreateReportRequest, ReportDTO, ReportsPageResponse, UpdateReportRequest, GetSpecificListingResponse, GetSpecificUserListingsRequest, FollowUserRequest, FollowUserResponse, UnfollowUserRequest, UnfollowUserResponse, CheckFollowingStatusRequest, CheckFollowingStatusResponse, GetFollowingListResponse, GetFollowersListResponse, GetFollowCountsRequest, GetFollowCountsResponse, UnreadCountResponse, MarkListingAsSoldRequest, MarkListingAsSoldResponse, DeleteAccountRequest, DeleteAccountResponse, CreateReviewRequest, UpdateReviewRequest, GetUserRatingStatsResponse, ReviewResponse, GetReviewsRequest, ReviewsPage, Review } from "./WebTypes";
 
 class AppConfig {
     access_token?: string;
@@ -16,7 +16,7 @@ class API {
     private async Request<T>(
         path: string,
         method: "GET" | "POST" | "PUT" | "DELETE",
-        options: { body?: any; params?: Record<string, string | number> } = {},
+        options: { body?: any; params?: Record<string, string | number>; onHeaders?: (headers: Headers) => void } = {},
         internalMethod: string,
         headerArgs?: Record<string, string>
     ): Promise<T | ErrorResponse> {
@@ -80,6 +80,8 @@ class API {
                 return new ErrorResponse(internalMethod, response.status, response.statusText, JSON.parse(responseBody));
             }
 
+            options.onHeaders?.(response.headers);
+
             if (headerArgs?.["Accept"] === "text/csv") {
                 return response.blob() as Promise<T>;
             } else {
@@ -267,8 +269,20 @@ class API {
     }
 
     // Reviews
-    async GetReviews(userId: string): Promise<Review[] | ErrorResponse> {
-        return this.Request<ReviewResponse>(`/reviews/user/${userId}`, "GET", {}, 'GetReviews');
+    async GetReviews(request: GetReviewsRequest): Promise<ReviewsPage | ErrorResponse> {
+        const query = new URLSearchParams({ limit: String(request.limit ?? 20) });
+        if (request.cursor) {
+            query.set("cursor", request.cursor);
+        }
+        // The cursor for the next page comes back in a header; it is absent on the last page
+        let nextCursor: string | undefined;
+        const response = await this.Request<ReviewResponse>(`/reviews/user/${request.userId}?${query}`, "GET", {
+            onHeaders: (headers) => { nextCursor = headers.get("X-Next-Cursor") ?? undefined; }
+        }, 'GetReviews');
+        if (response instanceof ErrorResponse) {
+            return response;
+        }
+        return { reviews: response, nextCursor };
     }
 
     async CreateReview(body: CreateReviewRequest): Promise<Review | ErrorResponse> {
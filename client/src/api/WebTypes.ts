@@ -352,6 +352,8 @@ export type DeleteAccountResponse = {
 
 export type GetReviewsRequest = {
     userId: string;
+    cursor?: string;   // from the previous page's nextCursor
+    limit?: number;    // page size, default 20
 }
 
 export type Review = {
@@ -369,6 +371,11 @@ export type Review = {
 
 export type ReviewResponse = Review[];
 
+export type ReviewsPage = {
+    reviews: Review[];
+    nextCursor?: string;  // undefined on the last page
+}
+
 export type CreateReviewRequest = {
     revieweeGU: string;
     rating: number;
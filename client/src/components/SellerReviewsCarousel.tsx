@@ -14,7 +14,7 @@ import {
     DropdownMenuTrigger,
 } from "@/components/ui/dropdown-menu";
 import { Button } from "@/components/ui/button";
-import { MoreHorizontal, Pencil, Trash2 } from "lucide-react";
+import { Loader2, MoreHorizontal, Pencil, Trash2 } from "lucide-react";
 
 function formatDate(timestamp: string) {
     const d = new Date(timestamp);
@@ -28,6 +28,10 @@ function formatDate(timestamp: string) {
 type Props = {
     title?: string;
     reviews: Review[];
+    total?: number;          // total review count; reviews may hold only the loaded pages
+    hasMore?: boolean;
+    isLoadingMore?: boolean;
+    onLoadMore?: () => void;
     onEdit?: (review: Review) => void;
     onDelete?: (review: Review) => void;
 };
@@ -35,6 +39,10 @@ type Props = {
 export default function SellerReviewsCarousel({
                                                   title = "Seller reviews",
                                                   reviews,
+                                                  total,
+                                                  hasMore = false,
+                                                  isLoadingMore = false,
+                                                  onLoadMore,
                                                   onEdit,
                                                   onDelete
                                               }: Props) {
@@ -44,7 +52,7 @@ export default function SellerReviewsCarousel({
         <section className="space-y-3 overflow-hidden">
             <h2 className="text-xl font-semibold">
                 {title}{" "}
-                <span className="text-xl text-muted-foreground">({reviews.length})</span>
+                <span className="text-xl text-muted-foreground">({total ?? reviews.length})</span>
             </h2>
 
             <ScrollArea className="w-full">
@@ -149,6 +157,14 @@ export default function SellerReviewsCarousel({
                             </Card>
                         );
                     })}
+
+                    {hasMore && onLoadMore && (
+                        <div className="flex shrink-0 items-center px-2">
+                            <Button variant="outline" onClick={onLoadMore} disabled={isLoadingMore}>
+                                {isLoadingMore ? <Loader2 className="h-4 w-4 animate-spin" /> : "Load more"}
+                            </Button>
+                        </div>
+                    )}
                 </div>
 
                 <ScrollBar orientation="horizontal" />
@@ -60,6 +60,8 @@ export function UserDetailsModal(props: UserDetailsModalProps) {
     const [listings, setListings] = useState<Listing[]>([]);
     const [userStats, setUserStats] = useState<GetUserRatingStatsResponse | undefined>();
     const [reviews, setReviews] = useState<Review[]>([]);
+    const [reviewsCursor, setReviewsCursor] = useState<string | undefined>();
+    const [isLoadingMoreReviews, setIsLoadingMoreReviews] = useState(false);
     const { userInfo } = useUserInfoStore();
 
     // Leaving a review
@@ -98,11 +100,25 @@ export function UserDetailsModal(props: UserDetailsModalProps) {
 
     async function fetchUserReviews() {
         // Do NOT set isLoading here
-        const response = await api.GetReviews(userGU);
+        const response = await api.GetReviews({ userId: userGU });
         if (response instanceof ErrorResponse) {
             console.error("Failed to fetch reviews");
         } else {
-            setReviews(response);
+            setReviews(response.reviews);
+            setReviewsCursor(response.nextCursor);
+        }
+    }
+
+    async function fetchMoreReviews() {
+        if (!reviewsCursor || isLoadingMoreReviews) return;
+        setIsLoadingMoreReviews(true);
+        const response = await api.GetReviews({ userId: userGU, cursor: reviewsCursor });
+        setIsLoadingMoreReviews(false);
+        if (response instanceof ErrorResponse) {
+            toast.error("Failed to load more reviews");
+        } else {
+            setReviews(prev => [...prev, ...response.reviews]);
+            setReviewsCursor(response.nextCursor);
         }
     }
 
@@ -332,6 +348,10 @@ export function UserDetailsModal(props: UserDetailsModalProps) {
                         <Separator className="" />
                         <SellerReviewsCarousel
                             reviews={reviews}
+                            total={userStats?.totalReviews}
+                            hasMore={!!reviewsCursor}
+                            isLoadingMore={isLoadingMoreReviews}
+                            onLoadMore={fetchMoreReviews}
                             onEdit={setReviewToEdit}
                             onDelete={setReviewToDelete}
                         />
@@ -0,0 +1,98 @@
+package com.pond.server.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks JSON serialization of typical response pages: a feed page as full listings and
+ * as cards, and a chat room list. Uses Spring's default ObjectMapper configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final int FEED_PAGE_SIZE = 24;
+    private static final int CHAT_ROOM_COUNT = 50;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<ListingDTO> listingPage;
+    private List<ListingCardDTO> cardPage;
+    private List<ChatRoomListDTO> chatRooms;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3);
+        listingPage = new ArrayList<>(FEED_PAGE_SIZE);
+        cardPage = new ArrayList<>(FEED_PAGE_SIZE);
+        for (int i = 0; i < FEED_PAGE_SIZE; i++) {
+            UUID listingId = UUID.randomUUID();
+            UUID sellerId = UUID.randomUUID();
+            String title = "Listing title " + i;
+            String picture = pictureUrl();
+            LocalDateTime createdAt = LocalDateTime.now().minusHours(random.nextInt(1000));
+            double price = 5 + random.nextInt(300);
+            listingPage.add(new ListingDTO(listingId, sellerId, title, description(random), picture, pictureUrl(),
+                price, "Good", "Electronics", createdAt, false, null));
+            cardPage.add(new ListingCardDTO(listingId, sellerId, title, price, "Electronics", "Good", picture,
+                createdAt, "seller" + i, pictureUrl(), (long) random.nextInt(40), (long) random.nextInt(200)));
+        }
+
+        chatRooms = new ArrayList<>(CHAT_ROOM_COUNT);
+        for (int i = 0; i < CHAT_ROOM_COUNT; i++) {
+            chatRooms.add(new ChatRoomListDTO(UUID.randomUUID() + "_" + UUID.randomUUID(), UUID.randomUUID(),
+                "Listing title " + i, pictureUrl(), UUID.randomUUID(), "user" + i, pictureUrl(),
+                "Is this still available? I can pick it up tomorrow afternoon.",
+                LocalDateTime.now().minusMinutes(random.nextInt(10_000)), random.nextInt(5), random.nextBoolean(), false));
+        }
+    }
+
+    @Benchmark
+    public byte[] listingPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listingPage);
+    }
+
+    @Benchmark
+    public byte[] cardPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cardPage);
+    }
+
+    @Benchmark
+    public byte[] chatRoomList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(chatRooms);
+    }
+
+    private static String pictureUrl() {
+        return "https://example.supabase.co/storage/v1/object/public/listings/" + UUID.randomUUID() + ".jpg";
+    }
+
+    private static String description(Random random) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 600 + random.nextInt(1200)) {
+            sb.append("Barely used, works perfectly, pickup near campus or can meet halfway. ");
+        }
+        return sb.toString();
+    }
+}
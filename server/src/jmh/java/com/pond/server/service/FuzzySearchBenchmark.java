@@ -0,0 +1,67 @@
+package com.pond.server.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.pond.server.model.Listing;
+
+/**
+ * Benchmarks the fuzzy title search applied to a page of listings.
+ * Page sizes match the paged feed (24) and the unpaged 500-result cap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzySearchBenchmark {
+
+    private static final String[] ADJECTIVES = {"grey", "vintage", "wooden", "blue", "leather", "compact", "used", "large"};
+    private static final String[] NOUNS = {"shirt", "desk lamp", "bike", "textbook", "mini fridge", "chair", "jacket", "monitor"};
+
+    @Param({"24", "500"})
+    public int listingCount;
+
+    @Param({"gre", "wooden desk lamp"})
+    public String query;
+
+    private List<Listing> listings;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        listings = new ArrayList<>(listingCount);
+        for (int i = 0; i < listingCount; i++) {
+            Listing listing = new Listing();
+            listing.setListingGU(UUID.randomUUID());
+            listing.setUserGU(UUID.randomUUID());
+            listing.setTitle(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]);
+            listing.setPrice(5.0 + random.nextInt(300));
+            listing.setCreatedAt(LocalDateTime.now().minusMinutes(random.nextInt(100_000)));
+            listings.add(listing);
+        }
+    }
+
+    @Benchmark
+    public List<Listing> rankByTitleSimilarity() {
+        // The ranking sorts in place, so each invocation gets its own copy
+        return ListingService.rankByTitleSimilarity(new ArrayList<>(listings), query, "date", "desc");
+    }
+}
@@ -0,0 +1,62 @@
+package com.pond.server.service;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pond.server.model.User;
+
+/**
+ * Benchmarks access token creation and the validation done by the JWT filter on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private final JwtService jwtService = new JwtService();
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new Random(1).nextBytes(secret);
+        ReflectionTestUtils.setField(jwtService, "secretKey", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 2_592_000_000L);
+        ReflectionTestUtils.setField(jwtService, "accessExpiration", 300_000L);
+
+        user = new User("benchuser", "bench@example.com", "unused");
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String buildAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String parseSubject() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtService.isAccessTokenValid(token, user);
+    }
+}
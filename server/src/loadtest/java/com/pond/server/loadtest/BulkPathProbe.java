@@ -0,0 +1,150 @@
+package com.pond.server.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.pond.server.enums.ReportReason;
+import com.pond.server.enums.ReportStatus;
+import com.pond.server.model.Listing;
+import com.pond.server.model.Report;
+import com.pond.server.model.User;
+import com.pond.server.repository.ListingRepository;
+import com.pond.server.repository.ReportRepository;
+import com.pond.server.repository.UserRepository;
+import com.pond.server.service.ListingService;
+import com.pond.server.service.ReportArchiveService;
+import com.pond.server.service.ReportStatisticsService;
+import com.pond.server.service.StorageCleanupService;
+import com.pond.server.service.UserService;
+
+/**
+ * Times the write-heavy bulk paths after the mixed workload: entity inserts through
+ * {@code saveAll}, bulk listing deletion, account deletion with listings and reports, draining the storage cleanup
+ * queue it fills, and a report archive pass.
+ * These are the paths JDBC batching affects, so comparing a run with and without
+ * {@code pond.loadtest.profiles=prod} shows its effect.
+ */
+final class BulkPathProbe {
+
+    private static final ReportReason[] REASONS = ReportReason.values();
+
+    private final ConfigurableApplicationContext context;
+    private final LoadTestRunner.Config config;
+    private final LatencyRecorder recorder;
+
+    /**
+     * Creates a probe for a running application.
+     *
+     * @param context the application context
+     * @param config the load-test configuration
+     * @param recorder the recorder receiving one sample per timed step
+     */
+    BulkPathProbe(ConfigurableApplicationContext context, LoadTestRunner.Config config, LatencyRecorder recorder) {
+        this.context = context;
+        this.config = config;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Creates, fills and deletes each bulk account, drains the storage cleanup queue, then runs one archive pass.
+     *
+     * @param seed the seeded data; probe reports are filed by its power seller against its listings
+     */
+    void run(DataSeeder.SeedData seed) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ListingRepository listingRepository = context.getBean(ListingRepository.class);
+        ReportRepository reportRepository = context.getBean(ReportRepository.class);
+        UserService userService = context.getBean(UserService.class);
+        ListingService listingService = context.getBean(ListingService.class);
+        String imageBase = "https://example.invalid/storage/v1/object/public/"
+            + context.getEnvironment().getRequiredProperty("supabase.listing-bucket") + "/";
+
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        UUID reporter = seed.powerSellerGu();
+
+        for (int i = 0; i < config.bulkAccounts(); i++) {
+            User user = new User("bulk" + i + "_" + run, "bulk" + i + "." + run + "@loadtest.local", "unused");
+            User owner = userRepository.save(user);
+
+            List<Listing> listings = new ArrayList<>(config.bulkListingsPerAccount());
+            for (int l = 0; l < config.bulkListingsPerAccount(); l++) {
+                Listing listing = new Listing();
+                listing.setUserGU(owner.getUserGU());
+                listing.setTitle("bulk listing " + l);
+                listing.setDescription("Bulk path probe listing");
+                listing.setPrice(10.0);
+                listing.setCondition("Good");
+                listing.setCategory("Other");
+                listing.setCreatedAt(LocalDateTime.now());
+                listing.setSold(false);
+                listing.setPicture1_url(imageBase + owner.getUserGU() + "/" + UUID.randomUUID() + ".jpg");
+                listing.setPicture2_url(imageBase + owner.getUserGU() + "/" + UUID.randomUUID() + ".jpg");
+                listings.add(listing);
+            }
+            List<Listing> savedListings = timed("bulk: insert listings", () -> listingRepository.saveAll(listings));
+
+            List<Report> reports = new ArrayList<>();
+            for (Listing listing : savedListings) {
+                for (int r = 0; r < config.bulkReportsPerListing(); r++) {
+                    reports.add(report(reporter, listing.getListingGU(), ReportStatus.PENDING, r));
+                }
+            }
+            timed("bulk: insert reports", () -> reportRepository.saveAll(reports));
+
+            // Half of the listings go through the bulk listing delete, the rest with the account
+            List<UUID> half = savedListings.subList(0, savedListings.size() / 2).stream().map(Listing::getListingGU).toList();
+            timed("bulk: delete listings", () -> listingService.deleteMany(half, owner));
+
+            timed("bulk: account deletion", () -> {
+                userService.deleteAccount(owner);
+                return null;
+            });
+        }
+        // Removes the images queued by the deletions above from the storage stub
+        timed("bulk: storage cleanup drain", () -> {
+            context.getBean(StorageCleanupService.class).drainQueue();
+            return null;
+        });
+
+        // Resolved reports older than a day, against seeded listings, for one archive pass
+        List<UUID> listingIds = seed.openListingIds();
+        List<Report> resolved = new ArrayList<>(config.bulkArchiveReports());
+        for (int i = 0; i < config.bulkArchiveReports(); i++) {
+            resolved.add(report(reporter, listingIds.get(i % listingIds.size()), ReportStatus.RESOLVED, i));
+        }
+        timed("bulk: insert resolved reports", () -> reportRepository.saveAll(resolved));
+        timed("bulk: archive pass", () -> {
+            context.getBean(ReportArchiveService.class).archiveOldResolvedReports();
+            return null;
+        });
+
+        // Reports above were inserted without counter deltas; rebuild the counters
+        context.getBean(ReportStatisticsService.class).reconcile();
+    }
+
+    private static Report report(UUID reporter, UUID listingId, ReportStatus status, int n) {
+        Report report = new Report(reporter, listingId, REASONS[n % REASONS.length], "Bulk path probe report " + n);
+        report.setStatus(status);
+        if (status == ReportStatus.RESOLVED) {
+            report.setReviewedAt(LocalDateTime.now().minusDays(2));
+        }
+        return report;
+    }
+
+    private <T> T timed(String operation, Supplier<T> step) {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            T result = step.get();
+            ok = true;
+            return result;
+        } finally {
+            recorder.record(operation, System.nanoTime() - start, ok);
+        }
+    }
+}
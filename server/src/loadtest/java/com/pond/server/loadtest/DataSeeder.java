@@ -0,0 +1,205 @@
+package com.pond.server.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.pond.server.model.ChatRoom;
+import com.pond.server.model.Listing;
+import com.pond.server.model.Message;
+import com.pond.server.model.Review;
+import com.pond.server.model.User;
+import com.pond.server.model.UserFollowing;
+import com.pond.server.repository.ChatRoomRepository;
+import com.pond.server.repository.ListingRepository;
+import com.pond.server.repository.MessageRepository;
+import com.pond.server.repository.ReviewRepository;
+import com.pond.server.repository.UserFollowingRepository;
+import com.pond.server.repository.UserRepository;
+import com.pond.server.service.ReviewService;
+import com.pond.server.service.UserFollowingService;
+
+/**
+ * Seeds a realistic marketplace through the application's own repositories:
+ * users, listings, follows, chat rooms with history, and one "power seller" with many
+ * sales and reviews. Materialized counters are reconciled afterwards, as the nightly job would.
+ */
+final class DataSeeder {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private static final String[] ADJECTIVES = {"grey", "vintage", "wooden", "blue", "leather", "compact", "used", "large", "mini", "classic"};
+    private static final String[] NOUNS = {"shirt", "desk lamp", "bike", "textbook", "fridge", "chair", "jacket", "monitor", "backpack", "keyboard"};
+    private static final String[] CATEGORIES = {"Electronics", "Furniture", "Clothing", "Books", "Sports", "Other"};
+    private static final String[] CONDITIONS = {"New", "Like New", "Good", "Fair"};
+    private static final int CHUNK = 1000;
+
+    private final ConfigurableApplicationContext context;
+    private final LoadTestRunner.Config config;
+    private final Random random = new Random(20240101L);
+
+    /**
+     * Creates a seeder for a running application.
+     *
+     * @param context the application context
+     * @param config the load-test configuration
+     */
+    DataSeeder(ConfigurableApplicationContext context, LoadTestRunner.Config config) {
+        this.context = context;
+        this.config = config;
+    }
+
+    /**
+     * Seeds all data.
+     *
+     * @return handles the workload needs (logins, ids, rooms)
+     */
+    SeedData seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ListingRepository listingRepository = context.getBean(ListingRepository.class);
+        UserFollowingRepository followingRepository = context.getBean(UserFollowingRepository.class);
+        ChatRoomRepository chatRoomRepository = context.getBean(ChatRoomRepository.class);
+        MessageRepository messageRepository = context.getBean(MessageRepository.class);
+        ReviewRepository reviewRepository = context.getBean(ReviewRepository.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        // Users; the run suffix keeps names unique when reusing a database via jdbc-url
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<User> users = new ArrayList<>(config.seedUsers());
+        for (int i = 0; i < config.seedUsers(); i++) {
+            User user = new User("user" + i + "_" + run, "user" + i + "." + run + "@loadtest.local", passwordHash);
+            user.setEnabled(true);
+            users.add(user);
+        }
+        users = saveInChunks(users, userRepository::saveAll);
+        User powerSeller = users.get(0);
+
+        // Listings: random owners, mostly unsold
+        List<Listing> listings = new ArrayList<>();
+        for (int i = 0; i < config.seedListings(); i++) {
+            listings.add(listing(users.get(random.nextInt(users.size())).getUserGU(), false, null));
+        }
+        // Power seller: a long sales history to stress the review/transaction checks
+        for (int i = 0; i < config.powerSellerSales(); i++) {
+            UUID buyer = users.get(1 + random.nextInt(users.size() - 1)).getUserGU();
+            listings.add(listing(powerSeller.getUserGU(), true, buyer));
+        }
+        listings = saveInChunks(listings, listingRepository::saveAll);
+        List<UUID> openListingIds = listings.stream().filter(l -> !l.getSold()).map(Listing::getListingGU).toList();
+
+        // Follows
+        List<UserFollowing> follows = new ArrayList<>();
+        for (User follower : users) {
+            Set<UUID> followed = new HashSet<>();
+            for (int j = 0; j < config.followsPerUser(); j++) {
+                User target = users.get(random.nextInt(users.size()));
+                if (!target.getUserGU().equals(follower.getUserGU()) && followed.add(target.getUserGU())) {
+                    follows.add(new UserFollowing(follower.getUserGU(), target.getUserGU()));
+                }
+            }
+        }
+        saveInChunks(follows, followingRepository::saveAll);
+
+        // Reviews for the power seller from distinct buyers
+        List<Review> reviews = new ArrayList<>();
+        int reviewCount = Math.min(config.powerSellerReviews(), users.size() - 1);
+        for (int i = 1; i <= reviewCount; i++) {
+            Review review = new Review();
+            review.setReviewerGu(users.get(i).getUserGU());
+            review.setRevieweeGu(powerSeller.getUserGU());
+            review.setRating(1 + random.nextInt(5));
+            review.setComment("Smooth pickup, item as described.");
+            review.setTimestamp(LocalDateTime.now().minusMinutes(random.nextInt(500_000)));
+            reviews.add(review);
+        }
+        saveInChunks(reviews, reviewRepository::saveAll);
+
+        // Chat rooms: every virtual user is the buyer in one room with history
+        List<String> emails = new ArrayList<>();
+        Map<String, String> roomByEmail = new HashMap<>();
+        List<ChatRoom> rooms = new ArrayList<>();
+        List<Message> messages = new ArrayList<>();
+        int virtualUsers = Math.min(config.virtualUsers(), users.size() - 1);
+        for (int i = 1; i <= virtualUsers; i++) {
+            User buyer = users.get(i);
+            emails.add(buyer.getEmail());
+            Listing listing = listingNotOwnedBy(listings, buyer.getUserGU());
+            ChatRoom room = new ChatRoom();
+            room.setRoomId(String.format("listing_%s_buyer_%s", listing.getListingGU(), buyer.getUserGU()));
+            room.setListingGU(listing.getListingGU());
+            room.setSellerGU(listing.getUserGU());
+            room.setBuyerGU(buyer.getUserGU());
+            room.setLastMessageAt(LocalDateTime.now());
+            rooms.add(room);
+            roomByEmail.put(buyer.getEmail(), room.getRoomId());
+            for (int m = 0; m < config.messagesPerRoom(); m++) {
+                UUID sender = m % 2 == 0 ? buyer.getUserGU() : listing.getUserGU();
+                messages.add(new Message(room.getRoomId(), sender, "Seed message " + m));
+            }
+        }
+        saveInChunks(rooms, chatRoomRepository::saveAll);
+        saveInChunks(messages, messageRepository::saveAll);
+
+        // Rebuild materialized counters the way the nightly reconcile does
+        context.getBean(ReviewService.class).reconcileRatingStats();
+        context.getBean(UserFollowingService.class).reconcileFollowCounts();
+
+        List<String> searchTerms = new ArrayList<>(List.of(NOUNS));
+        searchTerms.addAll(List.of("gre", "lamp", "vintag", "bik"));
+        return new SeedData(emails, roomByEmail, openListingIds, powerSeller.getUserGU(), searchTerms);
+    }
+
+    private Listing listing(UUID owner, boolean sold, UUID soldTo) {
+        Listing listing = new Listing();
+        listing.setUserGU(owner);
+        listing.setTitle(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]);
+        listing.setDescription("Barely used, works perfectly. Pickup near campus or can meet halfway. ".repeat(1 + random.nextInt(3)));
+        listing.setPicture1_url("https://example.invalid/storage/v1/object/public/listings/" + UUID.randomUUID() + ".jpg");
+        listing.setPrice(5.0 + random.nextInt(400));
+        listing.setCondition(CONDITIONS[random.nextInt(CONDITIONS.length)]);
+        listing.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        listing.setCreatedAt(LocalDateTime.now().minusMinutes(random.nextInt(200_000)));
+        listing.setSold(sold);
+        listing.setSoldTo(soldTo);
+        return listing;
+    }
+
+    private Listing listingNotOwnedBy(List<Listing> listings, UUID userGU) {
+        while (true) {
+            Listing candidate = listings.get(random.nextInt(listings.size()));
+            if (!candidate.getUserGU().equals(userGU)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static <T> List<T> saveInChunks(List<T> items, Function<List<T>, Iterable<T>> saveAll) {
+        List<T> saved = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += CHUNK) {
+            saveAll.apply(items.subList(from, Math.min(items.size(), from + CHUNK))).forEach(saved::add);
+        }
+        return saved;
+    }
+
+    /**
+     * Record holding seeded handles used by the workload.
+     *
+     * @param emails login emails of the virtual users
+     * @param roomByEmail chat room id per virtual user email
+     * @param openListingIds ids of unsold listings, for detail requests
+     * @param powerSellerGu the seller with a long sales and review history
+     * @param searchTerms search queries to issue
+     */
+    record SeedData(List<String> emails, Map<String, String> roomByEmail, List<UUID> openListingIds,
+                    UUID powerSellerGu, List<String> searchTerms) {}
+}
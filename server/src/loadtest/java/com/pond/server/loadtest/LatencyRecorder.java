@@ -0,0 +1,91 @@
+package com.pond.server.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects per-operation latencies and computes percentiles at the end of a run.
+ * Samples are kept raw (one long per request), which is exact and cheap at load-test volumes.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    /**
+     * Records one completed operation.
+     *
+     * @param operation the operation name, e.g. "GET /listings"
+     * @param nanos the latency in nanoseconds
+     * @param ok whether the operation succeeded
+     */
+    void record(String operation, long nanos, boolean ok) {
+        samples.computeIfAbsent(operation, k -> new Samples()).add(nanos, ok);
+    }
+
+    /**
+     * Summarizes all operations, sorted by name.
+     *
+     * @param elapsedSeconds the measured duration, used for throughput
+     * @return one summary per operation
+     */
+    List<Summary> summarize(double elapsedSeconds) {
+        List<Summary> result = new ArrayList<>();
+        samples.forEach((operation, s) -> result.add(s.summarize(operation, elapsedSeconds)));
+        result.sort(Comparator.comparing(Summary::operation));
+        return result;
+    }
+
+    /**
+     * Growable sample buffer for one operation.
+     */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized Summary summarize(String operation, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            return new Summary(operation, count, errors, count / elapsedSeconds,
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.90), percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentileMs(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    /**
+     * Record summarizing one operation.
+     *
+     * @param operation the operation name
+     * @param count the number of samples
+     * @param errors the number of failed samples
+     * @param throughput samples per second over the measured duration
+     * @param p50Ms median latency in milliseconds
+     * @param p90Ms 90th percentile latency in milliseconds
+     * @param p99Ms 99th percentile latency in milliseconds
+     * @param maxMs maximum latency in milliseconds
+     */
+    record Summary(String operation, long count, long errors, double throughput,
+                   double p50Ms, double p90Ms, double p99Ms, double maxMs) {}
+}
@@ -0,0 +1,259 @@
+package com.pond.server.loadtest;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pond.server.ServerApplication;
+
+/**
+ * Entry point of the load-test harness.
+ *
+ * <p>Boots the full server against a Testcontainers Postgres (or an existing database when
+ * {@code pond.loadtest.jdbc-url} is set), a local storage stub in place of Supabase and an SMTP
+ * sink, seeds realistic data, drives a mixed HTTP + STOMP workload with virtual users, and
+ * reports count, errors, throughput and p50/p90/p99 latency per operation. The report is
+ * printed and written as JSON to {@code target/loadtest-report.json}.</p>
+ *
+ * <p>Run with {@code mvn -Ploadtest verify}. Tunables are system properties, see {@link Config}.</p>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args unused; configuration comes from system properties
+     * @throws Exception if the environment cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        Config config = Config.fromSystemProperties();
+        PostgreSQLContainer<?> postgres = null;
+        try (StorageStub storage = new StorageStub(); SmtpStub smtp = new SmtpStub()) {
+            String jdbcUrl = config.jdbcUrl();
+            String dbUser = System.getProperty("pond.loadtest.jdbc-username", "postgres");
+            String dbPassword = System.getProperty("pond.loadtest.jdbc-password", "postgres");
+            if (jdbcUrl == null) {
+                postgres = new PostgreSQLContainer<>(config.postgresImage());
+                postgres.start();
+                jdbcUrl = postgres.getJdbcUrl();
+                dbUser = postgres.getUsername();
+                dbPassword = postgres.getPassword();
+            }
+
+            // Passed as command-line arguments so they override application.properties
+            String[] serverArgs = serverProperties(config, jdbcUrl, dbUser, dbPassword, storage, smtp).entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ServerApplication.class).run(serverArgs);
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String baseUrl = "http://localhost:" + port;
+
+                log("Seeding data...");
+                long seedStart = System.nanoTime();
+                DataSeeder.SeedData seed = new DataSeeder(context, config).seed();
+                long seedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart);
+                log("Seeded in %d ms", seedMs);
+
+                LatencyRecorder recorder = new LatencyRecorder();
+                runWorkload(baseUrl, seed, config, recorder);
+
+                double measured = config.duration().toMillis() / 1000.0;
+                List<LatencyRecorder.Summary> summaries = recorder.summarize(measured);
+                printReport(summaries, config);
+
+                List<LatencyRecorder.Summary> bulkSummaries = List.of();
+                if (config.bulkAccounts() > 0) {
+                    log("Running bulk paths...");
+                    LatencyRecorder bulkRecorder = new LatencyRecorder();
+                    long bulkStart = System.nanoTime();
+                    new BulkPathProbe(context, config, bulkRecorder).run(seed);
+                    bulkSummaries = bulkRecorder.summarize((System.nanoTime() - bulkStart) / 1e9);
+                    printTable("Bulk paths", bulkSummaries);
+                }
+                writeReport(summaries, bulkSummaries, seedMs, config, storage, smtp);
+            } finally {
+                context.close();
+            }
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static void runWorkload(String baseUrl, DataSeeder.SeedData seed, Config config, LatencyRecorder recorder)
+            throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        ObjectMapper json = new ObjectMapper();
+
+        long now = System.nanoTime();
+        long measureFrom = now + config.warmup().toNanos();
+        long deadline = measureFrom + config.duration().toNanos();
+        log("Running %d virtual users: %ds warmup + %ds measured", seed.emails().size(),
+            config.warmup().toSeconds(), config.duration().toSeconds());
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String email : seed.emails()) {
+                users.submit(new VirtualUser(baseUrl, email, seed, config, http, json, recorder, measureFrom, deadline));
+            }
+            users.shutdown();
+            users.awaitTermination(config.warmup().plus(config.duration()).toSeconds() + 120, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Map<String, Object> serverProperties(Config config, String jdbcUrl, String dbUser, String dbPassword,
+                                                        StorageStub storage, SmtpStub smtp) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+        props.put("management.server.port", 0);
+        props.put("spring.datasource.url", jdbcUrl);
+        props.put("spring.datasource.username", dbUser);
+        props.put("spring.datasource.password", dbPassword);
+        props.put("spring.datasource.hikari.maximum-pool-size", config.poolSize());
+        props.put("supabase.url", storage.baseUrl());
+        props.put("supabase.storage-url", storage.baseUrl());
+        props.put("supabase.service-role-key", "loadtest");
+        props.put("security.jwt.secret-key", Base64.getEncoder().encodeToString(secret));
+        // Long-lived access tokens so runs longer than the production 5 minutes need no refresh
+        props.put("security.jwt.access-expiration-time", 3_600_000L);
+        props.put("spring.mail.host", "127.0.0.1");
+        props.put("spring.mail.port", smtp.port());
+        props.put("spring.mail.username", "loadtest");
+        props.put("spring.mail.password", "");
+        props.put("spring.mail.properties.mail.smtp.auth", false);
+        props.put("spring.mail.properties.mail.smtp.starttls.enable", false);
+        props.put("spring.mail.properties.mail.smtp.starttls.required", false);
+        props.put("logging.level.com.pond.server", "WARN");
+        if (!config.profiles().isBlank()) {
+            props.put("spring.profiles.active", config.profiles());
+        }
+        return props;
+    }
+
+    private static void printReport(List<LatencyRecorder.Summary> summaries, Config config) {
+        printTable(String.format("Load test: %d users, %ds measured, think time %dms, pool size %d, profiles [%s]",
+            config.virtualUsers(), config.duration().toSeconds(), config.thinkTimeMs(), config.poolSize(),
+            config.profiles()), summaries);
+    }
+
+    private static void printTable(String title, List<LatencyRecorder.Summary> summaries) {
+        System.out.println();
+        System.out.println(title);
+        System.out.printf("%-34s %8s %7s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.Summary s : summaries) {
+            System.out.printf("%-34s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                s.operation(), s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p90Ms(), s.p99Ms(), s.maxMs());
+        }
+        System.out.println();
+    }
+
+    private static void writeReport(List<LatencyRecorder.Summary> summaries, List<LatencyRecorder.Summary> bulkSummaries,
+                                    long seedMs, Config config, StorageStub storage, SmtpStub smtp) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("seedMs", seedMs);
+        report.put("operations", new ArrayList<>(summaries));
+        report.put("bulkPaths", new ArrayList<>(bulkSummaries));
+        report.put("storageUploads", storage.uploads());
+        report.put("storageDeletes", storage.deletes());
+        report.put("emailsSent", smtp.messages());
+
+        File out = new File(config.reportFile());
+        out.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .findAndRegisterModules()
+            .writeValue(out, report);
+        log("Report written to %s", out.getAbsolutePath());
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[loadtest] " + String.format(format, args));
+    }
+
+    /**
+     * Record holding load-test settings, read from {@code pond.loadtest.*} system properties.
+     *
+     * @param virtualUsers concurrent simulated users ({@code users}, default 50)
+     * @param duration measured duration ({@code duration-seconds}, default 60)
+     * @param warmup unmeasured warmup before it ({@code warmup-seconds}, default 15)
+     * @param thinkTimeMs mean pause between operations per user ({@code think-ms}, default 50)
+     * @param poolSize Hikari pool size, production uses 2 ({@code pool-size}, default 2)
+     * @param seedUsers users to seed ({@code seed-users}, default 500)
+     * @param seedListings open listings to seed ({@code seed-listings}, default 5000)
+     * @param followsPerUser follows per seeded user ({@code follows-per-user}, default 20)
+     * @param messagesPerRoom history per chat room ({@code messages-per-room}, default 30)
+     * @param powerSellerSales sold listings of the power seller ({@code power-seller-sales}, default 2000)
+     * @param powerSellerReviews reviews of the power seller ({@code power-seller-reviews}, default 400)
+     * @param bulkAccounts accounts created and deleted by the bulk-path phase, 0 skips it ({@code bulk-accounts}, default 5)
+     * @param bulkListingsPerAccount listings per bulk account ({@code bulk-listings}, default 50)
+     * @param bulkReportsPerListing reports per bulk listing ({@code bulk-reports}, default 4)
+     * @param bulkArchiveReports resolved reports moved by the archive pass ({@code bulk-archive-reports}, default 2000)
+     * @param profiles Spring profiles to activate, e.g. prod ({@code profiles}, default none)
+     * @param jdbcUrl existing database to use instead of a container ({@code jdbc-url}, optional)
+     * @param postgresImage container image ({@code postgres-image}, default postgres:16-alpine)
+     * @param reportFile JSON report path ({@code report}, default target/loadtest-report.json)
+     */
+    record Config(int virtualUsers, Duration duration, Duration warmup, int thinkTimeMs, int poolSize,
+                  int seedUsers, int seedListings, int followsPerUser, int messagesPerRoom,
+                  int powerSellerSales, int powerSellerReviews, int bulkAccounts, int bulkListingsPerAccount,
+                  int bulkReportsPerListing, int bulkArchiveReports, String profiles, String jdbcUrl,
+                  String postgresImage, String reportFile) {
+
+        static Config fromSystemProperties() {
+            return new Config(
+                intProp("users", 50),
+                Duration.ofSeconds(intProp("duration-seconds", 60)),
+                Duration.ofSeconds(intProp("warmup-seconds", 15)),
+                intProp("think-ms", 50),
+                intProp("pool-size", 2),
+                intProp("seed-users", 500),
+                intProp("seed-listings", 5000),
+                intProp("follows-per-user", 20),
+                intProp("messages-per-room", 30),
+                intProp("power-seller-sales", 2000),
+                intProp("power-seller-reviews", 400),
+                intProp("bulk-accounts", 5),
+                intProp("bulk-listings", 50),
+                intProp("bulk-reports", 4),
+                intProp("bulk-archive-reports", 2000),
+                System.getProperty("pond.loadtest.profiles", ""),
+                System.getProperty("pond.loadtest.jdbc-url"),
+                System.getProperty("pond.loadtest.postgres-image", "postgres:16-alpine"),
+                System.getProperty("pond.loadtest.report", "target/loadtest-report.json")
+            );
+        }
+
+        private static int intProp(String name, int defaultValue) {
+            return Integer.getInteger("pond.loadtest." + name, defaultValue);
+        }
+    }
+}
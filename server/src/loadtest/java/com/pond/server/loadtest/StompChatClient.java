@@ -0,0 +1,96 @@
+package com.pond.server.loadtest;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+/**
+ * STOMP-over-SockJS chat client for one virtual user, connected to {@code /ws} like the web client.
+ * A send is timed from SEND until the server broadcasts the saved message back on the room topic,
+ * so the latency covers authorization, persistence and fan-out.
+ */
+final class StompChatClient implements AutoCloseable {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final WebSocketStompClient stompClient;
+    private final StompSession session;
+    private final String roomId;
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Connects, authenticates with the access token and subscribes to the room topic.
+     *
+     * @param baseUrl the server base URL
+     * @param accessToken the user's access token
+     * @param roomId the room this user chats in
+     * @throws Exception if the connection or subscription fails
+     */
+    StompChatClient(String baseUrl, String accessToken, String roomId) throws Exception {
+        this.roomId = roomId;
+        this.stompClient = new WebSocketStompClient(
+            new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + accessToken);
+        this.session = stompClient
+            .connectAsync(baseUrl + "/ws", new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {})
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        session.subscribe("/topic/room/" + roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                Object content = payload instanceof Map<?, ?> map ? map.get("content") : null;
+                CompletableFuture<Void> future = content != null ? pending.remove(content.toString()) : null;
+                if (future != null) {
+                    future.complete(null);
+                }
+            }
+        });
+    }
+
+    /**
+     * Sends a message and waits for its broadcast.
+     *
+     * @param content the message content; must be unique per send
+     * @return true if the broadcast arrived before the timeout
+     */
+    boolean sendAndAwaitEcho(String content) {
+        CompletableFuture<Void> echo = new CompletableFuture<>();
+        pending.put(content, echo);
+        session.send("/app/chat/send", Map.of("roomId", roomId, "content", content));
+        try {
+            echo.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return true;
+        } catch (Exception e) {
+            pending.remove(content);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        session.disconnect();
+        stompClient.stop();
+    }
+}
@@ -0,0 +1,86 @@
+package com.pond.server.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the Supabase Storage API.
+ * Accepts uploads and deletes under {@code /storage/v1/object/} and answers 200 without
+ * storing anything, so image paths can be exercised without network or quota.
+ */
+final class StorageStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicLong uploads = new AtomicLong();
+    private final AtomicLong deletes = new AtomicLong();
+
+    /**
+     * Starts the stub on a free local port.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    StorageStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/storage/v1/object/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Gets the base URL to configure as {@code supabase.url} and {@code supabase.storage-url}.
+     *
+     * @return the stub base URL
+     */
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the number of uploads received.
+     *
+     * @return the upload count
+     */
+    long uploads() {
+        return uploads.get();
+    }
+
+    /**
+     * Gets the number of deletes received.
+     *
+     * @return the delete count
+     */
+    long deletes() {
+        return deletes.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        String method = exchange.getRequestMethod();
+        if ("PUT".equals(method) || "POST".equals(method)) {
+            uploads.incrementAndGet();
+        } else if ("DELETE".equals(method)) {
+            deletes.incrementAndGet();
+        }
+        byte[] response = "{\"message\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,241 @@
+package com.pond.server.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One simulated user: logs in, opens a chat connection and then loops over a weighted mix of
+ * browsing, search, detail, chat, mark-read and login operations until the deadline.
+ *
+ * <p>"feed 1+N" replays what the client did before listing cards carried a seller summary:
+ * one feed request followed by a profile and a rating request per distinct seller. It is
+ * reported next to the plain feed request so the two can be compared directly.</p>
+ */
+final class VirtualUser implements Runnable {
+
+    // Cumulative weights of the operation mix (out of 100)
+    private static final int FEED = 28;
+    private static final int FEED_ONE_PLUS_N = FEED + 4;
+    private static final int SEARCH = FEED_ONE_PLUS_N + 14;
+    private static final int FOLLOWING_FEED = SEARCH + 10;
+    private static final int DETAIL = FOLLOWING_FEED + 18;
+    private static final int POWER_SELLER = DETAIL + 6;
+    private static final int CHAT_ROOMS = POWER_SELLER + 5;
+    private static final int CHAT_SEND = CHAT_ROOMS + 10;
+    private static final int MARK_READ = CHAT_SEND + 8;
+
+    private static final int PAGE_SIZE = 24;
+
+    private final String baseUrl;
+    private final String email;
+    private final String roomId;
+    private final DataSeeder.SeedData seed;
+    private final LoadTestRunner.Config config;
+    private final HttpClient http;
+    private final ObjectMapper json;
+    private final LatencyRecorder recorder;
+    private final long deadlineNanos;
+    private final long measureFromNanos;
+    private final Random random;
+
+    private String accessToken;
+    private int sends;
+
+    /**
+     * Creates a virtual user.
+     *
+     * @param baseUrl the server base URL
+     * @param email the login email
+     * @param seed the seeded data handles
+     * @param config the load-test configuration
+     * @param http the shared HTTP client
+     * @param json the shared object mapper
+     * @param recorder the shared latency recorder
+     * @param measureFromNanos samples before this instant are warmup and not recorded
+     * @param deadlineNanos the instant at which the user stops
+     */
+    VirtualUser(String baseUrl, String email, DataSeeder.SeedData seed, LoadTestRunner.Config config,
+                HttpClient http, ObjectMapper json, LatencyRecorder recorder,
+                long measureFromNanos, long deadlineNanos) {
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.roomId = seed.roomByEmail().get(email);
+        this.seed = seed;
+        this.config = config;
+        this.http = http;
+        this.json = json;
+        this.recorder = recorder;
+        this.measureFromNanos = measureFromNanos;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new Random(email.hashCode());
+    }
+
+    @Override
+    public void run() {
+        try {
+            login();
+        } catch (Exception e) {
+            recorder.record("setup failure", 0, false);
+            return;
+        }
+        try (StompChatClient chat = new StompChatClient(baseUrl, accessToken, roomId)) {
+            // First send only confirms the subscription is live; it is not measured
+            chat.sendAndAwaitEcho(nextMessage());
+            while (System.nanoTime() < deadlineNanos) {
+                step(chat);
+                thinkTime();
+            }
+        } catch (Exception e) {
+            recorder.record("setup failure", 0, false);
+        }
+    }
+
+    private void step(StompChatClient chat) {
+        int roll = random.nextInt(MARK_READ + 5);
+        if (roll < FEED) {
+            get("GET /listings", "/listings?page=" + random.nextInt(10) + "&size=" + PAGE_SIZE);
+        } else if (roll < FEED_ONE_PLUS_N) {
+            feedOnePlusN();
+        } else if (roll < SEARCH) {
+            String term = seed.searchTerms().get(random.nextInt(seed.searchTerms().size()));
+            post("POST /listings/filter", "/listings/filter?page=0&size=" + PAGE_SIZE, Map.of("searchQuery", term));
+        } else if (roll < FOLLOWING_FEED) {
+            post("POST /listings/following", "/listings/following?page=0&size=" + PAGE_SIZE, Map.of());
+        } else if (roll < DETAIL) {
+            UUID id = seed.openListingIds().get(random.nextInt(seed.openListingIds().size()));
+            get("GET /listings/{id}", "/listings/" + id);
+        } else if (roll < POWER_SELLER) {
+            get("GET /reviews/user/{power}", "/reviews/user/" + seed.powerSellerGu() + "?limit=20");
+            get("GET /reviews/can-review/{power}", "/reviews/can-review/" + seed.powerSellerGu());
+        } else if (roll < CHAT_ROOMS) {
+            get("GET /chat/rooms", "/chat/rooms");
+        } else if (roll < CHAT_SEND) {
+            long start = System.nanoTime();
+            boolean ok = chat.sendAndAwaitEcho(nextMessage());
+            record("STOMP /app/chat/send", start, ok);
+        } else if (roll < MARK_READ) {
+            // Focusing a room: the client marks it read and refreshes the badge
+            post("POST /chat/rooms/{id}/mark-read", "/chat/rooms/" + roomId + "/mark-read", Map.of());
+            get("GET /chat/unread-count", "/chat/unread-count");
+        } else {
+            try {
+                login();
+            } catch (Exception e) {
+                // already recorded as a failed login
+            }
+        }
+    }
+
+    private void feedOnePlusN() {
+        long start = System.nanoTime();
+        JsonNode cards = get(null, "/listings?page=" + random.nextInt(10) + "&size=" + PAGE_SIZE);
+        boolean ok = cards != null;
+        if (ok) {
+            Set<String> usernames = new LinkedHashSet<>();
+            Set<String> sellerIds = new LinkedHashSet<>();
+            for (JsonNode card : cards) {
+                sellerIds.add(card.path("userGU").asText());
+                usernames.add(card.path("seller").path("username").asText());
+            }
+            for (String username : usernames) {
+                ok &= get(null, "/users/" + username) != null;
+            }
+            for (String sellerId : sellerIds) {
+                ok &= get(null, "/reviews/stats/" + sellerId) != null;
+            }
+        }
+        record("feed 1+N (legacy client)", start, ok);
+    }
+
+    private void login() throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(
+                Map.of("email", email, "password", DataSeeder.PASSWORD)))));
+        boolean ok = response != null && response.statusCode() == 200;
+        record("POST /auth/login", start, ok);
+        if (!ok) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        accessToken = json.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private JsonNode get(String operation, String path) {
+        return exchange(operation, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private JsonNode post(String operation, String path, Map<String, Object> body) {
+        try {
+            return exchange(operation, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body))));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sends an authenticated request and records it under the operation name, if any.
+     *
+     * @param operation the name to record under, or null when the caller records a composite
+     * @param builder the request to send
+     * @return the parsed body on 2xx, otherwise null
+     */
+    private JsonNode exchange(String operation, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(builder.header("Authorization", "Bearer " + accessToken));
+        boolean ok = response != null && response.statusCode() / 100 == 2;
+        if (operation != null) {
+            record(operation, start, ok);
+        }
+        if (!ok) {
+            return null;
+        }
+        try {
+            return json.readTree(response.body());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) {
+        try {
+            return http.send(builder.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void record(String operation, long start, boolean ok) {
+        if (start >= measureFromNanos) {
+            recorder.record(operation, System.nanoTime() - start, ok);
+        }
+    }
+
+    private String nextMessage() {
+        return "load " + email + " #" + (sends++);
+    }
+
+    private void thinkTime() {
+        if (config.thinkTimeMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(random.nextInt(config.thinkTimeMs() * 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.pond.server.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the ETag filter for the polled, read-heavy controllers.
+ *
+ * <p>The filter buffers whole response bodies to hash them, so it is mapped to those
+ * controllers only instead of every request.</p>
+ */
+@Configuration
+public class ConditionalGetConfiguration {
+
+    // URL patterns of the polled, read-heavy controllers; "/x/*" also matches "/x"
+    private static final String[] URL_PATTERNS = {"/listings/*", "/reviews/*", "/following/*", "/chat/*"};
+
+    /**
+     * Creates the ETag filter; also read by the conditional GET metrics.
+     *
+     * @return the ETag filter
+     */
+    @Bean
+    public ConditionalGetFilter conditionalGetFilter() {
+        return new ConditionalGetFilter();
+    }
+
+    /**
+     * Maps the ETag filter to the read-heavy controllers, after the security chain.
+     *
+     * @param filter the ETag filter
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<ConditionalGetFilter> conditionalGetFilterRegistration(ConditionalGetFilter filter) {
+        FilterRegistrationBean<ConditionalGetFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(URL_PATTERNS);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
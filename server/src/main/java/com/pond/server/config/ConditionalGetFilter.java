@@ -0,0 +1,132 @@
+package com.pond.server.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Spring's {@link ShallowEtagHeaderFilter} with weak ETags, counting 304s and the bytes they save.
+ *
+ * <p>The ETag is a hash of the response body, so it works for every endpoint without version
+ * columns. The handler still runs; what a 304 saves is the response body on the wire, which
+ * dominates for polled feeds. GET and HEAD responses default to {@code private, no-cache} so
+ * browsers revalidate every time and shared caches never store per-user content.</p>
+ *
+ * <p>Registered by {@link ConditionalGetConfiguration} for the read-heavy controllers only,
+ * after the security chain, so only authorized responses are hashed.</p>
+ */
+public class ConditionalGetFilter extends ShallowEtagHeaderFilter {
+
+    // Request attribute carrying the buffered body size of an ETag-eligible response
+    private static final String BODY_SIZE_ATTRIBUTE = ConditionalGetFilter.class.getName() + ".BODY_SIZE";
+
+    private static final String CACHE_CONTROL_VALUE = "private, no-cache";
+
+    private final LongAdder notModifiedResponses = new LongAdder();
+    private final LongAdder fullResponses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+
+    /**
+     * Creates the filter with weak ETags enabled.
+     */
+    public ConditionalGetFilter() {
+        setWriteWeakETag(true);
+    }
+
+    /**
+     * Defaults Cache-Control for reads, runs the ETag filter and counts the outcome.
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param filterChain the remaining filter chain
+     * @throws ServletException if a downstream filter or the handler fails
+     * @throws IOException if writing the response fails
+     */
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            // Handlers that set their own Cache-Control replace this default
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_VALUE);
+        }
+        super.doFilterInternal(request, response, filterChain);
+
+        if (request.getAttribute(BODY_SIZE_ATTRIBUTE) instanceof Integer size) {
+            if (response.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+                notModifiedResponses.increment();
+                bytesSaved.add(size);
+            } else {
+                fullResponses.increment();
+                bytesSent.add(size);
+            }
+        }
+    }
+
+    /**
+     * Applies the framework eligibility rules and records the body size of eligible responses.
+     *
+     * @param request the current request
+     * @param response the buffering response wrapper
+     * @param responseStatusCode the response status
+     * @param inputStream the buffered response body
+     * @return true if the response gets an ETag
+     */
+    @Override
+    protected boolean isEligibleForEtag(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                        int responseStatusCode, @Nonnull InputStream inputStream) {
+        boolean eligible = super.isEligibleForEtag(request, response, responseStatusCode, inputStream);
+        if (eligible && response instanceof ContentCachingResponseWrapper wrapper) {
+            request.setAttribute(BODY_SIZE_ATTRIBUTE, wrapper.getContentSize());
+        }
+        return eligible;
+    }
+
+    /**
+     * Gets the number of requests answered with 304 Not Modified.
+     *
+     * @return the 304 count since startup
+     */
+    public long getNotModifiedResponses() {
+        return notModifiedResponses.sum();
+    }
+
+    /**
+     * Gets the number of ETag-eligible requests answered with a full body.
+     *
+     * @return the full response count since startup
+     */
+    public long getFullResponses() {
+        return fullResponses.sum();
+    }
+
+    /**
+     * Gets the response body bytes not sent because of 304 responses.
+     *
+     * @return the bytes saved since startup, before compression
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Gets the response body bytes sent for ETag-eligible requests.
+     *
+     * @return the bytes sent since startup, before compression
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+}
@@ -0,0 +1,54 @@
+package com.pond.server.config;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy that counts SQL statements per thread
+ * and logs slow queries with their bind parameters.
+ *
+ * <p>Counts are read and reset per HTTP request by {@link QueryCountFilter} and per STOMP message
+ * by {@code QueryCountChannelInterceptor}, and published through {@link QueryCountRecorder}.
+ * Slow queries are logged at WARN to the {@code pond.db.slow-query} logger once they run longer
+ * than {@code pond.db.slow-query-ms}; set that logger to OFF to suppress bind parameters.</p>
+ */
+@Configuration
+public class DataSourceProxyConfiguration {
+
+    // Name reported in slow query logs and used as the count holder key
+    public static final String DATA_SOURCE_NAME = "pond";
+
+    /**
+     * Wraps the DataSource bean once it is created.
+     * Static so the post-processor is registered without initializing this configuration early.
+     *
+     * @param environment the environment providing the slow query threshold
+     * @return the post-processor creating the proxy
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                long slowQueryMs = environment.getProperty("pond.db.slow-query-ms", Long.class, 200L);
+                return ProxyDataSourceBuilder.create(DATA_SOURCE_NAME, dataSource)
+                    .countQuery()
+                    .logSlowQueryBySlf4j(slowQueryMs, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN, "pond.db.slow-query")
+                    .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.pond.server.config;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import com.pond.server.service.ReportArchiveService;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Micrometer configuration, scraped through {@code /actuator/prometheus}.
+ *
+ * <p>Service classes annotated with {@code @Timed("pond.service")} get a timer per public method
+ * (tags: class, method, exception), which also counts calls and failures. HTTP server requests and
+ * Hikari pool usage ({@code hikaricp_connections_*}) are bound by Spring Boot. This class adds
+ * WebSocket session and STOMP channel gauges, the conditional GET counters, and report archiver progress.</p>
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Enables {@code @Timed} on Spring beans.
+     *
+     * @param registry the meter registry
+     * @return the aspect recording @Timed methods
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Registers gauges for WebSocket sessions and STOMP channel executors.
+     * Queue depth is the number of messages waiting for a thread on each channel;
+     * a growing inbound queue means message handling cannot keep up.
+     *
+     * @param stats the broker statistics maintained by Spring
+     * @param inbound the client inbound channel executor
+     * @param outbound the client outbound channel executor
+     * @param broker the broker channel executor
+     * @return the binder registering the gauges
+     */
+    @Bean
+    public MeterBinder webSocketMetrics(WebSocketMessageBrokerStats stats,
+                                        @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inbound,
+                                        @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outbound,
+                                        @Qualifier("brokerChannelExecutor") ThreadPoolTaskExecutor broker) {
+        return registry -> {
+            sessionGauge(registry, stats, "total", SubProtocolWebSocketHandler.Stats::getTotalSessions);
+            sessionGauge(registry, stats, "websocket", SubProtocolWebSocketHandler.Stats::getWebSocketSessions);
+            sessionGauge(registry, stats, "http_streaming", SubProtocolWebSocketHandler.Stats::getHttpStreamingSessions);
+            sessionGauge(registry, stats, "http_polling", SubProtocolWebSocketHandler.Stats::getHttpPollingSessions);
+
+            channelGauges(registry, "inbound", inbound);
+            channelGauges(registry, "outbound", outbound);
+            channelGauges(registry, "broker", broker);
+        };
+    }
+
+    /**
+     * Registers counters for ETag-eligible responses and the bytes they sent or saved.
+     *
+     * @param filter the conditional GET filter
+     * @return the binder registering the counters
+     */
+    @Bean
+    public MeterBinder conditionalGetMetrics(ConditionalGetFilter filter) {
+        return registry -> {
+            FunctionCounter.builder("pond.http.conditional.responses", filter, ConditionalGetFilter::getNotModifiedResponses)
+                .tag("result", "not_modified")
+                .description("ETag-eligible responses answered with 304")
+                .register(registry);
+            FunctionCounter.builder("pond.http.conditional.responses", filter, ConditionalGetFilter::getFullResponses)
+                .tag("result", "full")
+                .description("ETag-eligible responses answered with a body")
+                .register(registry);
+            FunctionCounter.builder("pond.http.conditional.bytes", filter, ConditionalGetFilter::getBytesSaved)
+                .tag("result", "saved")
+                .baseUnit("bytes")
+                .description("Response body bytes not sent because of 304 responses")
+                .register(registry);
+            FunctionCounter.builder("pond.http.conditional.bytes", filter, ConditionalGetFilter::getBytesSent)
+                .tag("result", "sent")
+                .baseUnit("bytes")
+                .description("Response body bytes sent for ETag-eligible responses")
+                .register(registry);
+        };
+    }
+
+    /**
+     * Registers report archiver progress, also served by {@code GET /reports/admin/archive-status}.
+     * Counters are per instance since startup; alert on a stale last-finished time or on
+     * skipped runs growing while nothing is archived.
+     *
+     * @param archiveService the report archive service
+     * @return the binder registering the meters
+     */
+    @Bean
+    public MeterBinder reportArchiveMetrics(ReportArchiveService archiveService) {
+        return registry -> {
+            Gauge.builder("pond.reports.archive.running", archiveService, s -> s.getProgress().running() ? 1 : 0)
+                .description("Whether an archive pass is running on this instance")
+                .register(registry);
+            Gauge.builder("pond.reports.archive.run.archived", archiveService, s -> s.getProgress().currentRunArchived())
+                .description("Reports archived by the running pass, or by the last pass if idle")
+                .register(registry);
+            Gauge.builder("pond.reports.archive.last.duration", archiveService, s -> s.getProgress().lastRunDurationMs())
+                .baseUnit("milliseconds")
+                .description("Duration of the most recent archive pass")
+                .register(registry);
+            Gauge.builder("pond.reports.archive.last.finished", archiveService,
+                    s -> epochSeconds(s.getProgress().lastRunFinishedAt()))
+                .baseUnit("seconds")
+                .description("Unix time the most recent archive pass finished")
+                .register(registry);
+            FunctionCounter.builder("pond.reports.archive.archived", archiveService, s -> s.getProgress().totalArchived())
+                .description("Reports archived by this instance")
+                .register(registry);
+            FunctionCounter.builder("pond.reports.archive.chunks", archiveService, s -> s.getProgress().totalChunks())
+                .description("Archive chunks committed by this instance")
+                .register(registry);
+            FunctionCounter.builder("pond.reports.archive.skipped", archiveService, s -> s.getProgress().skippedRuns())
+                .description("Archive passes skipped or stopped because another pass held the lock")
+                .register(registry);
+        };
+    }
+
+    private static double epochSeconds(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toEpochSecond() : Double.NaN;
+    }
+
+    private static void sessionGauge(MeterRegistry registry, WebSocketMessageBrokerStats stats, String type,
+                                     ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+        Gauge.builder("pond.websocket.sessions", stats, s -> {
+                SubProtocolWebSocketHandler.Stats sessionStats = s.getWebSocketSessionStats();
+                return sessionStats != null ? value.applyAsInt(sessionStats) : 0;
+            })
+            .tag("type", type)
+            .description("Open WebSocket/SockJS sessions")
+            .register(registry);
+    }
+
+    private static void channelGauges(MeterRegistry registry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("pond.stomp.channel.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+            .tag("channel", channel)
+            .description("Messages waiting for a thread on the STOMP channel")
+            .register(registry);
+        Gauge.builder("pond.stomp.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .tag("channel", channel)
+            .description("Threads currently handling STOMP channel messages")
+            .register(registry);
+    }
+}
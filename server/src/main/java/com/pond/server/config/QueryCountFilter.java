@@ -0,0 +1,60 @@
+package com.pond.server.config;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the SQL statements executed while serving each HTTP request, including the
+ * security chain's user lookup, and records them per route pattern.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    // Endpoint tag for requests that matched no handler (404s, rejected before dispatch)
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final QueryCountRecorder queryCountRecorder;
+
+    /**
+     * Constructs a new QueryCountFilter with required dependencies.
+     *
+     * @param queryCountRecorder the recorder publishing per-request counts
+     */
+    public QueryCountFilter(QueryCountRecorder queryCountRecorder) {
+        this.queryCountRecorder = queryCountRecorder;
+    }
+
+    /**
+     * Resets the count, runs the request and records the statements it executed.
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param filterChain the remaining filter chain
+     * @throws ServletException if a downstream filter or the handler fails
+     * @throws IOException if writing the response fails
+     */
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        queryCountRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED);
+            queryCountRecorder.record("http", endpoint);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.pond.server.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * Publishes the SQL statements executed by one HTTP request or STOMP message.
+ *
+ * <p>Records a {@code pond.db.queries} histogram (statements per unit of work) and a
+ * {@code pond.db.query.time} timer, tagged by transport and endpoint. Units of work above
+ * {@code pond.db.query-budget} statements are logged at WARN with the breakdown by type,
+ * which is how N+1 patterns show up.</p>
+ */
+@Component
+public class QueryCountRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountRecorder.class);
+
+    private final MeterRegistry registry;
+
+    // Statements per request or message above which a warning is logged
+    @Value("${pond.db.query-budget:20}")
+    private long queryBudget;
+
+    /**
+     * Constructs a new QueryCountRecorder with required dependencies.
+     *
+     * @param registry the meter registry
+     */
+    public QueryCountRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts a unit of work on the current thread by discarding earlier counts.
+     */
+    public void start() {
+        QueryCountHolder.clear();
+    }
+
+    /**
+     * Records the statements counted on the current thread since {@link #start()} and resets the count.
+     *
+     * @param transport "http" or "stomp"
+     * @param endpoint the route pattern or message destination, bounded in cardinality
+     */
+    public void record(String transport, String endpoint) {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        QueryCountHolder.clear();
+
+        long total = count.getTotal();
+        DistributionSummary.builder("pond.db.queries")
+            .description("SQL statements per HTTP request or STOMP message")
+            .baseUnit("statements")
+            .tags("transport", transport, "endpoint", endpoint)
+            .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50, 100)
+            .register(registry)
+            .record(total);
+        Timer.builder("pond.db.query.time")
+            .description("Time spent executing SQL per HTTP request or STOMP message")
+            .tags("transport", transport, "endpoint", endpoint)
+            .register(registry)
+            .record(count.getTime(), TimeUnit.MILLISECONDS);
+
+        if (total > queryBudget) {
+            logger.warn("{} {} executed {} SQL statements in {} ms (select={} insert={} update={} delete={} other={})",
+                transport, endpoint, total, count.getTime(), count.getSelect(), count.getInsert(),
+                count.getUpdate(), count.getDelete(), count.getOther());
+        } else {
+            logger.debug("{} {} executed {} SQL statements in {} ms", transport, endpoint, total, count.getTime());
+        }
+    }
+}
@@ -59,6 +59,7 @@ public class SecurityConfiguration {
                         .requestMatchers("/ws").permitAll()
                         .requestMatchers("/ws-test/*").permitAll() // Make sure websockets are working and its just security blocking
                         .requestMatchers("/chat/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // Served on the internal management port
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -117,9 +118,9 @@ public class SecurityConfiguration {
         
         configuration.setAllowedOrigins(allowedOrigins);
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "If-None-Match"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(List.of("Set-Cookie", "X-Access-Token", "Authorization"));
+        configuration.setExposedHeaders(List.of("Set-Cookie", "X-Access-Token", "Authorization", "X-Next-Cursor", "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         // Registers the CORS configuration for all paths
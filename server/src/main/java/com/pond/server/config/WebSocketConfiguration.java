@@ -1,6 +1,7 @@
 package com.pond.server.config;
 
 import com.pond.server.interceptors.JwtHandshakeInterceptor;
+import com.pond.server.interceptors.QueryCountChannelInterceptor;
 import com.pond.server.interceptors.WebSocketChannelInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,7 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
 
     private final WebSocketChannelInterceptor webSocketChannelInterceptor;
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final QueryCountChannelInterceptor queryCountChannelInterceptor;
 
     // Set FRONTEND_URL environment variable for production
     // Set ADDITIONAL_ORIGINS for comma-separated list of extra origins
@@ -29,9 +31,11 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
     private String additionalOrigins;
 
     public WebSocketConfiguration(WebSocketChannelInterceptor webSocketChannelInterceptor,
-                                  JwtHandshakeInterceptor jwtHandshakeInterceptor) {
+                                  JwtHandshakeInterceptor jwtHandshakeInterceptor,
+                                  QueryCountChannelInterceptor queryCountChannelInterceptor) {
         this.webSocketChannelInterceptor = webSocketChannelInterceptor;
         this.jwtHandshakeInterceptor = jwtHandshakeInterceptor;
+        this.queryCountChannelInterceptor = queryCountChannelInterceptor;
     }
 
     @Override
@@ -77,6 +81,6 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration){
-        registration.interceptors(webSocketChannelInterceptor);
+        registration.interceptors(webSocketChannelInterceptor, queryCountChannelInterceptor);
     }
 }
\ No newline at end of file
@@ -140,7 +140,6 @@ public class ChatRestController {
             return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
         }
 
-        chatRoomService.verifyChatRoomAccess(roomId, currentUser.getUserGU());
         messageService.markRoomMessagesAsRead(roomId, currentUser.getUserGU());
 
         return ResponseEntity.ok(Map.of("result", "Success"));
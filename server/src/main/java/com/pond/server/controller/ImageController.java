@@ -1,5 +1,6 @@
 package com.pond.server.controller;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.pond.server.dto.UploadAvatarRequest;
 import com.pond.server.model.User;
 import com.pond.server.service.ImageService;
+import com.pond.server.service.StorageCleanupService;
 import com.pond.server.service.SupabaseStorage;
 import com.pond.server.service.UserService;
 
@@ -28,6 +30,7 @@ public class ImageController {
     private final UserService userService;
     private final ImageService imageService;
     private final SupabaseStorage supabaseStorage;
+    private final StorageCleanupService storageCleanupService;
 
     /**
      * Constructs a new ImageController with required dependencies.
@@ -35,11 +38,14 @@ public class ImageController {
      * @param userService the service for user operations
      * @param imageService the service for image processing
      * @param supabaseStorage the service for Supabase storage operations
+     * @param storageCleanupService the service removing storage objects asynchronously
      */
-    public ImageController(UserService userService, ImageService imageService, SupabaseStorage supabaseStorage) {
+    public ImageController(UserService userService, ImageService imageService, SupabaseStorage supabaseStorage,
+                           StorageCleanupService storageCleanupService) {
         this.userService = userService;
         this.imageService = imageService;
         this.supabaseStorage = supabaseStorage;
+        this.storageCleanupService = storageCleanupService;
     }
 
     /**
@@ -62,7 +68,7 @@ public class ImageController {
     /**
      * Uploads and updates the authenticated user's avatar.
      * Processes the image (resize and compress), uploads to storage,
-     * updates the user's avatar URL, and deletes the previous avatar.
+     * updates the user's avatar URL, and queues the previous avatar for removal.
      *
      * @param req the upload request containing base64 encoded avatar image
      * @return ResponseEntity with the new avatar URL
@@ -72,16 +78,8 @@ public class ImageController {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         User currentUser = (User) auth.getPrincipal();
 
-        // Prepare to delete previous file (if any) after successful upload
+        // Remember the previous file (if any) to delete it after a successful upload
         String oldUrl = currentUser.getAvatar_url();
-        String oldKey = null;
-        if (oldUrl != null && !oldUrl.isBlank()) {
-            String marker = "/storage/v1/object/public/" + pfpBucket + "/";
-            int idx = oldUrl.indexOf(marker);
-            if (idx >= 0) {
-                oldKey = oldUrl.substring(idx + marker.length());
-            }
-        }
 
         // Decode base64 and process image
         byte[] raw = decodeBase64Image(req.getAvatar_base64());
@@ -93,13 +91,9 @@ public class ImageController {
 
         userService.updateAvatar(currentUser, url);
 
-        // Best-effort delete of the previous object
-        if (oldKey != null && !oldKey.isBlank()) {
-            try {
-                supabaseStorage.deleteObject(pfpBucket, oldKey);
-            } catch (RuntimeException e) {
-                // log if you have a logger; ignore to not block response
-            }
+        // Queue the previous object; the cleanup worker removes it with retries, off the request path
+        if (oldUrl != null && !oldUrl.isBlank()) {
+            storageCleanupService.enqueueUrls(pfpBucket, List.of(oldUrl));
         }
 
         return ResponseEntity.ok(Map.of("avatar_url", url));
@@ -17,8 +17,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.pond.server.dto.BulkDeleteListingsRequest;
 import com.pond.server.dto.CreateListingRequest;
 import com.pond.server.dto.FilterListingsRequest;
+import com.pond.server.dto.ListingCardDTO;
 import com.pond.server.dto.ListingDTO;
 import com.pond.server.dto.UpdateListingRequest;
 import com.pond.server.model.User;
@@ -72,7 +74,7 @@ public class ListingController {
     public ResponseEntity<?> filter(@RequestBody FilterListingsRequest req,
                                     @RequestParam(name = "page", defaultValue = "0") int page,
                                     @RequestParam(name = "size", defaultValue = "2") int size) {
-        List<ListingDTO> list = listingService.getFilteredPaged(
+        List<ListingCardDTO> list = listingService.getFilteredPaged(
             req.getCategories(), 
             req.getMinPrice(), 
             req.getMaxPrice(), 
@@ -97,7 +99,7 @@ public class ListingController {
     public ResponseEntity<?> all(@RequestParam(name = "page", defaultValue = "0") int page,
                                  @RequestParam(name = "size", defaultValue = "2") int size) {
         // Return all listings with default sorting (date desc)
-        List<ListingDTO> list = listingService.getFilteredPaged(null, null, null, "date", "desc", null, page, size);
+        List<ListingCardDTO> list = listingService.getFilteredPaged(null, null, null, "date", "desc", null, page, size);
         return ResponseEntity.ok(list);
     }
 
@@ -133,7 +135,7 @@ public class ListingController {
             return ResponseEntity.status(401).body(java.util.Map.of("error", "Unauthorized"));
         }
         
-        List<ListingDTO> list = listingService.getFollowingListingsPaged(
+        List<ListingCardDTO> list = listingService.getFollowingListingsPaged(
             currentUser,
             req.getCategories(), 
             req.getMinPrice(), 
@@ -215,4 +217,31 @@ public class ListingController {
             listingService.delete(id, currentUser);
             return ResponseEntity.ok(Map.of("result", "Success"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Deletes many listings at once, e.g. when moderating a spam seller.
+     * Either deletes the listed ids (admins any listing, regular users only their own; others are skipped)
+     * or, when a seller is given, every listing of that seller (admins, or the seller themselves).
+     * Images are removed from storage in the background.
+     *
+     * @param req the request containing listing ids or a seller id
+     * @return ResponseEntity with the number of listings deleted, or 403 if not allowed
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<?> bulkDelete(@RequestBody BulkDeleteListingsRequest req) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            User currentUser = (User) authentication.getPrincipal();
+            int deleted;
+            if (req.getSellerGU() != null) {
+                if (!currentUser.getAdmin() && !req.getSellerGU().equals(currentUser.getUserGU())) {
+                    return ResponseEntity.status(403).build();
+                }
+                deleted = listingService.deleteAllOwnedBy(req.getSellerGU());
+            } else if (req.getListingGUs() != null) {
+                deleted = listingService.deleteMany(req.getListingGUs(), currentUser);
+            } else {
+                return ResponseEntity.badRequest().body(Map.of("error", "listingGUs or sellerGU is required"));
+            }
+            return ResponseEntity.ok(Map.of("result", "Success", "deleted", deleted));
+    }
+}
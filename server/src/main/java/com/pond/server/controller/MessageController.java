@@ -4,6 +4,8 @@ package com.pond.server.controller;
 import java.security.Principal;
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -16,6 +18,7 @@ import com.pond.server.model.ChatRoom;
 import com.pond.server.model.Message;
 import com.pond.server.model.User;
 import com.pond.server.service.ChatRoomService;
+import com.pond.server.service.LogSampler;
 import com.pond.server.service.MessageService;
 import com.pond.server.service.UserService;
 
@@ -26,6 +29,11 @@ import com.pond.server.service.UserService;
 @Controller
 public class MessageController {
 
+    private static final Logger logger = LoggerFactory.getLogger(MessageController.class);
+
+    // Log one chat send in every 1000 at INFO; the rest at DEBUG
+    private static final LogSampler SEND_SAMPLER = new LogSampler(1000);
+
     private final MessageService messageService;
     private final ChatRoomService chatRoomService;
     private final UserService userService;
@@ -61,51 +69,34 @@ public class MessageController {
     @MessageMapping("/chat/send")
     public void sendMessage(@Payload MessageDTO messageDTO, Principal principal) {
         try {
-            System.out.println("✅ 1. Message received from WebSocket");
-            System.out.println("   Content: " + messageDTO.getContent());
-            System.out.println("   RoomId: " + messageDTO.getRoomId());
-
             // Get the username from principal (Spring Security sets this to username)
             String senderIdentifier = principal.getName();
-            System.out.println("✅ 2. Sender identifier: " + senderIdentifier);
 
             // Try to find by username first, then by email as fallback
             User sender = userService.findByUsernameOrEmail(senderIdentifier)
                     .orElseThrow(() -> new RuntimeException("Sender not found"));
 
             UUID senderGU = sender.getUserGU();
-            System.out.println("✅ 3. Sender found - Email: " + sender.getEmail() + ", GU: " + senderGU);
 
             // Verify the user is part of the chat room
             ChatRoom room = chatRoomService.getChatRoom(messageDTO.getRoomId());
-            System.out.println("✅ 4. Chat room found");
 
             if (!room.getSellerGU().equals(senderGU) && !room.getBuyerGU().equals(senderGU)) {
                 throw new RuntimeException("Not authorized");
             }
-            System.out.println("✅ 5. User authorized");
 
             // Create and save message
             Message message = new Message(messageDTO.getRoomId(), senderGU, messageDTO.getContent());
-            System.out.println("✅ 6. Message object created");
-            System.out.println("   Message ID (before save): " + message.getId());
-            System.out.println("   Message timestamp: " + message.getTimestamp());
-            System.out.println("   Message isRead: " + message.isRead());
-
             MessageResponseDTO savedMessage = messageService.saveMessage(message);
-            System.out.println("✅ 7. Message saved to database!");
-            System.out.println("   Saved message ID: " + savedMessage.getId());
 
             // Update last message time in chatroom
             chatRoomService.updateLastMessageTime(messageDTO.getRoomId());
-            System.out.println("✅ 8. Chat room last_message_at updated");
 
             // Send message to all subscribers in the room
             messagingTemplate.convertAndSend(
                     "/topic/room/" + messageDTO.getRoomId(),
                     savedMessage
             );
-            System.out.println("✅ 9. Message broadcasted to room subscribers");
 
             // Send unread count notification to the other user
             UUID recipientGU = room.getSellerGU().equals(senderGU) ?
@@ -121,13 +112,19 @@ public class MessageController {
                     "/queue/unread-count",
                     java.util.Map.of("unreadCount", recipientUnreadCount)
             );
-            System.out.println("✅ 10. Unread count notification sent to recipient: " + recipient.getUsername() + " (GU: " + recipientGU + ")");
+
+            // OPTIMIZED: One DEBUG line per message, and a sampled INFO line instead of ~10 console writes
+            if (SEND_SAMPLER.sample()) {
+                logger.info("Chat messages sent: {} (latest roomId={} messageId={})",
+                        SEND_SAMPLER.getCount(), messageDTO.getRoomId(), savedMessage.getId());
+            } else {
+                logger.debug("Chat message sent roomId={} messageId={} senderGU={} recipientGU={}",
+                        messageDTO.getRoomId(), savedMessage.getId(), senderGU, recipientGU);
+            }
 
         } catch (Exception e) {
             // Log error and send error notification
-            System.err.println("❌ ERROR in sendMessage: " + e.getMessage());
-            System.err.println("❌ Error class: " + e.getClass().getName());
-            e.printStackTrace();
+            logger.warn("Chat send failed roomId={}: {}", messageDTO.getRoomId(), e.getMessage(), e);
 
             try {
                 messagingTemplate.convertAndSend(
@@ -135,8 +132,9 @@ public class MessageController {
                         new NotificationDTO("Error: " + e.getMessage(), messageDTO.getRoomId())
                 );
             } catch (Exception notifError) {
-                System.err.println("❌ Failed to send error notification: " + notifError.getMessage());
+                logger.error("Failed to send chat error notification roomId={}: {}",
+                        messageDTO.getRoomId(), notifError.getMessage());
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.pond.server.controller;
 
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -18,8 +19,13 @@ import org.springframework.web.bind.annotation.RestController;
 import com.pond.server.dto.CreateReportRequest;
 import com.pond.server.dto.ReportDTO;
 import com.pond.server.dto.UpdateReportRequest;
+import com.pond.server.enums.ReportReason;
+import com.pond.server.enums.ReportStatus;
 import com.pond.server.model.User;
+import com.pond.server.service.ReportArchiveService;
+import com.pond.server.service.ReportArchiveService.ArchiveProgress;
 import com.pond.server.service.ReportService;
+import com.pond.server.service.ReportStatisticsService.Snapshot;
 
 /**
  * REST controller for report management operations.
@@ -30,14 +36,17 @@ import com.pond.server.service.ReportService;
 public class ReportController {
     
     private final ReportService reportService;
+    private final ReportArchiveService reportArchiveService;
 
     /**
      * Constructs a new ReportController with required dependencies.
      *
      * @param reportService the service for report operations
+     * @param reportArchiveService the service that archives resolved reports
      */
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService, ReportArchiveService reportArchiveService) {
         this.reportService = reportService;
+        this.reportArchiveService = reportArchiveService;
     }
     
     /**
@@ -180,7 +189,8 @@ public class ReportController {
     
     /**
      * Retrieves report statistics (admin only).
-     * Includes counts for active, resolved, and pending reports.
+     * Includes counts for active, resolved, and pending reports, plus breakdowns by status and reason.
+     * Served from materialized counters, so frequent dashboard polling does not scan the reports tables.
      *
      * @param user the authenticated admin user
      * @return ResponseEntity with report statistics or 403 if not admin
@@ -193,11 +203,32 @@ public class ReportController {
             return ResponseEntity.status(403).build();
         }
         
-        long activeReports = reportService.getTotalReportCount();
-        long resolvedReports = reportService.getTotalResolvedReportCount();
-        long pendingReports = reportService.getPendingReportCount();
+        Snapshot stats = reportService.getStatistics();
         
-        return ResponseEntity.ok(new ReportStatistics(activeReports, resolvedReports, pendingReports));
+        return ResponseEntity.ok(new ReportStatistics(
+            stats.activeReports(),
+            stats.resolvedReports(),
+            stats.byStatus().get(ReportStatus.PENDING),
+            stats.reportsToday(),
+            stats.byStatus(),
+            stats.byReason()));
+    }
+    
+    /**
+     * Retrieves progress of the background report archiver on this instance (admin only).
+     *
+     * @param user the authenticated admin user
+     * @return ResponseEntity with archiver progress or 403 if not admin
+     */
+    @GetMapping("/admin/archive-status")
+    public ResponseEntity<ArchiveProgress> getArchiveStatus(
+            @AuthenticationPrincipal User user) {
+        
+        if (!user.getAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        return ResponseEntity.ok(reportArchiveService.getProgress());
     }
     
     /**
@@ -206,6 +237,10 @@ public class ReportController {
      * @param activeReports the count of active reports
      * @param resolvedReports the count of resolved reports
      * @param pendingReports the count of pending reports
+     * @param reportsToday the count of reports filed today
+     * @param byStatus active report counts per status
+     * @param byReason report counts per reason, active and archived
      */
-    public record ReportStatistics(long activeReports, long resolvedReports, long pendingReports) {}
+    public record ReportStatistics(long activeReports, long resolvedReports, long pendingReports, long reportsToday,
+                                   Map<ReportStatus, Long> byStatus, Map<ReportReason, Long> byReason) {}
 }
\ No newline at end of file
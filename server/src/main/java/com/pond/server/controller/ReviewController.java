@@ -13,14 +13,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.pond.server.dto.CreateReviewRequest;
 import com.pond.server.dto.ReviewDTO;
+import com.pond.server.dto.SellerRatingDTO;
 import com.pond.server.dto.UpdateReviewRequest;
 import com.pond.server.dto.UserRatingStatsDTO;
 import com.pond.server.model.User;
 import com.pond.server.service.ReviewService;
+import com.pond.server.service.ReviewService.ReviewPage;
 
 /**
  * REST controller for review management operations.
@@ -30,6 +33,10 @@ import com.pond.server.service.ReviewService;
 @RequestMapping("/reviews")
 public class ReviewController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_REVIEW_PAGE_SIZE = 20;
+    private static final int MAX_REVIEW_PAGE_SIZE = 100;
+
     private final ReviewService reviewService;
 
     /**
@@ -107,14 +114,34 @@ public class ReviewController {
     }
 
     /**
-     * Retrieves all reviews for a specific user.
+     * Retrieves reviews for a specific user, newest first.
+     * One page is returned per request, so payload and query time stay flat for users with many
+     * reviews; the body is a plain array of reviews and the cursor for the next page is returned
+     * in the X-Next-Cursor header, omitted on the last page.
      *
      * @param userGu the UUID of the user (reviewee)
-     * @return ResponseEntity with list of reviews
+     * @param cursor the cursor from the previous page's X-Next-Cursor header (optional)
+     * @param limit the page size (default 20, capped at 100)
+     * @return ResponseEntity with the reviews, or 400 if the cursor is invalid
      */
     @GetMapping("/user/{userGu}")
-    public ResponseEntity<List<ReviewDTO>> getReviewsForUser(@PathVariable UUID userGu) {
-        return ResponseEntity.ok(reviewService.getReviewsForUser(userGu));
+    public ResponseEntity<List<ReviewDTO>> getReviewsForUser(
+            @PathVariable UUID userGu,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : DEFAULT_REVIEW_PAGE_SIZE, MAX_REVIEW_PAGE_SIZE));
+        ReviewPage page;
+        try {
+            page = reviewService.getReviewsForUser(userGu, cursor, pageSize);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.reviews());
     }
 
     /**
@@ -133,6 +160,21 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.getUserRatingStats(userGu, currentUserGu));
     }
 
+    /**
+     * Retrieves average rating and review count for many users in one request.
+     * Used by listing grids to show seller ratings on each card.
+     *
+     * @param userGus the UUIDs of the users (at most 500)
+     * @return ResponseEntity with one rating entry per distinct user, or 400 if too many users are requested
+     */
+    @PostMapping("/stats/batch")
+    public ResponseEntity<List<SellerRatingDTO>> getRatingStatsBatch(@RequestBody List<UUID> userGus) {
+        if (userGus.size() > ReviewService.MAX_BATCH_RATING_USERS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(reviewService.getRatingStatsBatch(userGus));
+    }
+
     /**
      * Checks if the authenticated user can review another user.
      *
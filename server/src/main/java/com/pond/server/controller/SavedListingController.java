@@ -97,6 +97,28 @@ public class SavedListingController {
         return ResponseEntity.ok(Map.of("isSaved", isSaved));
     }
     
+    /**
+     * Checks which of a page of listings are saved by the authenticated user.
+     * Used to render save state for every card on a feed page in one request.
+     *
+     * @param listingGUs the UUIDs of the listings to check (at most 200)
+     * @return ResponseEntity with the saved subset, 400 if too many listings, or 401 if unauthorized
+     */
+    @PostMapping("/status/batch")
+    public ResponseEntity<?> checkSavedStatusBatch(@RequestBody List<UUID> listingGUs) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User currentUser)) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
+        }
+        if (listingGUs.size() > SavedListingService.MAX_BATCH_STATUS_LISTINGS) {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                "At most " + SavedListingService.MAX_BATCH_STATUS_LISTINGS + " listings per request"));
+        }
+        
+        List<UUID> savedIds = savedListingService.getSavedSubset(listingGUs, currentUser);
+        return ResponseEntity.ok(Map.of("savedListingIds", savedIds));
+    }
+    
     /**
      * Retrieves all saved listings for the authenticated user with full details.
      *
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.pond.server.model.User;
+import com.pond.server.model.UserFollowCounts;
 import com.pond.server.service.UserFollowingService;
 
 /**
@@ -135,9 +136,10 @@ public class UserFollowingController {
      */
     @GetMapping("/{userId}/counts")
     public ResponseEntity<?> getUserCounts(@PathVariable("userId") UUID userId) {
+        UserFollowCounts counts = userFollowingService.getFollowCounts(userId);
         return ResponseEntity.ok(Map.of(
-            "followers", userFollowingService.getFollowerCount(userId),
-            "following", userFollowingService.getFollowingCount(userId)
+            "followers", counts.getFollowerCount(),
+            "following", counts.getFollowingCount()
         ));
     }
 }
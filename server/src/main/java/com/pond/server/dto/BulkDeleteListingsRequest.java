@@ -0,0 +1,15 @@
+package com.pond.server.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkDeleteListingsRequest {
+    private List<UUID> listingGUs;
+    // Deletes every listing of this seller instead (admins, or the seller themselves)
+    private UUID sellerGU;
+}
@@ -0,0 +1,80 @@
+package com.pond.server.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+/**
+ * Slim listing projection for feed grids.
+ * Carries only what a card renders: no description, and the first picture as thumbnail.
+ * The full listing is served by {@code GET /listings/{id}}.
+ */
+@Getter
+public class ListingCardDTO {
+    @JsonProperty("listingGU")
+    private final UUID listinggu;
+    @JsonProperty("userGU")
+    private final UUID usergu;
+    private final String title;
+    private final Double price;
+    private final String category;
+    private final String condition;
+    @JsonProperty("picture1_url")
+    private final String picture1_url;
+    @JsonProperty("createdAt")
+    private final LocalDateTime createdAt;
+    private final SellerSummaryDTO seller;
+
+    /**
+     * Constructor used by the joined card projection queries.
+     *
+     * @param listinggu the listing UUID
+     * @param usergu the seller UUID
+     * @param title the listing title
+     * @param price the price
+     * @param category the category
+     * @param condition the item condition
+     * @param picture1_url the thumbnail (first picture) URL
+     * @param createdAt when the listing was created
+     * @param username the seller's username
+     * @param avatar_url the seller's avatar URL
+     * @param reviewCount the seller's review count, or null if never reviewed
+     * @param ratingSum the seller's rating sum, or null if never reviewed
+     */
+    public ListingCardDTO(UUID listinggu, UUID usergu, String title, Double price, String category,
+                          String condition, String picture1_url, LocalDateTime createdAt,
+                          String username, String avatar_url, Long reviewCount, Long ratingSum) {
+        this(listinggu, usergu, title, price, category, condition, picture1_url, createdAt,
+             new SellerSummaryDTO(usergu, username, avatar_url, reviewCount, ratingSum));
+    }
+
+    /**
+     * Constructor used when the seller summary was loaded separately.
+     *
+     * @param listinggu the listing UUID
+     * @param usergu the seller UUID
+     * @param title the listing title
+     * @param price the price
+     * @param category the category
+     * @param condition the item condition
+     * @param picture1_url the thumbnail (first picture) URL
+     * @param createdAt when the listing was created
+     * @param seller the seller summary, or null if the seller no longer exists
+     */
+    public ListingCardDTO(UUID listinggu, UUID usergu, String title, Double price, String category,
+                          String condition, String picture1_url, LocalDateTime createdAt,
+                          SellerSummaryDTO seller) {
+        this.listinggu = listinggu;
+        this.usergu = usergu;
+        this.title = title;
+        this.price = price;
+        this.category = category;
+        this.condition = condition;
+        this.picture1_url = picture1_url;
+        this.createdAt = createdAt;
+        this.seller = seller;
+    }
+}
@@ -0,0 +1,45 @@
+package com.pond.server.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+@Getter
+public class SellerSummaryDTO {
+
+    @JsonProperty("userGU")
+    private final UUID userGU;
+
+    private final String username;
+
+    @JsonProperty("avatar_url")
+    private final String avatar_url;
+
+    @JsonProperty("averageRating")
+    private final Double averageRating;
+
+    @JsonProperty("totalReviews")
+    private final Long totalReviews;
+
+    /**
+     * Builds a seller summary from the materialized rating aggregate.
+     * Counts are null when the seller has never been reviewed (no aggregate row).
+     *
+     * @param userGU the seller's UUID
+     * @param username the seller's username
+     * @param avatar_url the seller's avatar URL
+     * @param reviewCount the number of reviews received, or null
+     * @param ratingSum the sum of ratings received, or null
+     */
+    public SellerSummaryDTO(UUID userGU, String username, String avatar_url, Long reviewCount, Long ratingSum) {
+        long count = reviewCount != null ? reviewCount : 0L;
+        long sum = ratingSum != null ? ratingSum : 0L;
+        this.userGU = userGU;
+        this.username = username;
+        this.avatar_url = avatar_url;
+        this.totalReviews = count;
+        this.averageRating = count == 0 ? 0.0 : (double) sum / count;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -25,4 +26,8 @@ public class UserRatingStatsDTO {
 
     @JsonProperty("canReview")
     private Boolean canReview;
+
+    // Review counts per star rating, index 0 = 1 star ... index 4 = 5 stars
+    @JsonProperty("starCounts")
+    private List<Long> starCounts;
 }
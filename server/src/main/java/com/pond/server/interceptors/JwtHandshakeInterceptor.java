@@ -1,5 +1,7 @@
 package com.pond.server.interceptors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import com.pond.server.service.JwtService;
 import org.springframework.http.server.ServerHttpRequest;
@@ -16,6 +18,8 @@ import java.util.Map;
 @Component
 public class JwtHandshakeInterceptor implements HandshakeInterceptor{
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtHandshakeInterceptor.class);
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
 
@@ -28,8 +32,6 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor{
     public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
                                    WebSocketHandler wsHandler, Map<String, Object> attributes) throws Exception {
 
-        System.out.println("🔗 WebSocket handshake initiated");
-
         if (request instanceof ServletServerHttpRequest) {
             ServletServerHttpRequest servletRequest = (ServletServerHttpRequest) request;
 
@@ -44,8 +46,6 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor{
                 }
             }
 
-            System.out.println("Token found: " + (token != null ? "Yes" : "No"));
-
             if (token != null && !token.isEmpty()) {
                 try {
                     String userEmail = jwtService.extractUsername(token);
@@ -56,28 +56,26 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor{
 
                     if (jwtService.isAccessTokenValid(token, userDetails)) {
                         isValid = true;
-                        System.out.println("✅ Access token valid for: " + userEmail);
                     } else if (jwtService.isRefreshTokenValid(token, userDetails)) {
                         isValid = true;
-                        System.out.println("✅ Refresh token valid for: " + userEmail);
                     }
 
                     if (isValid) {
                         // Store user email in WebSocket session attributes
                         attributes.put("userEmail", userEmail);
                         attributes.put("userDetails", userDetails);
-                        System.out.println("✅ User authenticated: " + userEmail);
+                        logger.debug("WebSocket handshake authenticated user={}", userEmail);
                         return true;
                     } else {
-                        System.err.println("❌ Token validation failed");
+                        logger.warn("WebSocket handshake rejected: token validation failed");
                         return false;
                     }
                 } catch (Exception e) {
-                    System.err.println("❌ Token processing error: " + e.getMessage());
+                    logger.warn("WebSocket handshake rejected: {}", e.getClass().getSimpleName());
                     return false;
                 }
             } else {
-                System.err.println("❌ No token provided");
+                logger.debug("WebSocket handshake without token");
                 // Allow connection without auth for testing - change to false in production
                 return true;
             }
@@ -89,7 +87,9 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor{
     @Override
     public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
                                WebSocketHandler wsHandler, Exception exception) {
-        System.out.println("✅ WebSocket handshake completed");
+        if (exception != null) {
+            logger.warn("WebSocket handshake failed: {}", exception.getMessage());
+        }
     }
 
 }
@@ -0,0 +1,96 @@
+package com.pond.server.interceptors;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import com.pond.server.config.QueryCountRecorder;
+
+/**
+ * Counts the SQL statements executed while handling each inbound STOMP message
+ * and records them per {@code @MessageMapping} destination.
+ * Only the annotated-method handler is measured; broker handlers run no queries.
+ */
+@Component
+public class QueryCountChannelInterceptor implements ExecutorChannelInterceptor {
+
+    // Endpoint tag for destinations without a @MessageMapping, so clients cannot create new tags
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final QueryCountRecorder queryCountRecorder;
+
+    /**
+     * Constructs a new QueryCountChannelInterceptor.
+     *
+     * @param queryCountRecorder the recorder publishing per-message statement counts
+     */
+    public QueryCountChannelInterceptor(QueryCountRecorder queryCountRecorder) {
+        this.queryCountRecorder = queryCountRecorder;
+    }
+
+    /**
+     * Resets the statement count before an annotated-method handler processes the message.
+     *
+     * @param message the inbound message
+     * @param channel the channel the message was sent to
+     * @param handler the handler about to process the message
+     * @return the unchanged message
+     */
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            queryCountRecorder.start();
+        }
+        return message;
+    }
+
+    /**
+     * Records the statements executed by an annotated-method handler under its mapped destination.
+     *
+     * @param message the handled message
+     * @param channel the channel the message was sent to
+     * @param handler the handler that processed the message
+     * @param ex the exception thrown by the handler, or null
+     */
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler annotationHandler) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            queryCountRecorder.record("stomp", mappedDestination(annotationHandler, destination));
+        }
+    }
+
+    /**
+     * Resolves a destination to its @MessageMapping pattern with the application prefix.
+     *
+     * @param handler the annotated-method handler
+     * @param destination the message destination, e.g. /app/chat/send
+     * @return the prefixed mapping pattern, or UNMAPPED
+     */
+    private static String mappedDestination(SimpAnnotationMethodMessageHandler handler, String destination) {
+        if (destination == null) {
+            return UNMAPPED;
+        }
+        // Spring normalizes prefixes to end with "/", e.g. "/app/"
+        for (String prefix : handler.getDestinationPrefixes()) {
+            if (!destination.startsWith(prefix)) {
+                continue;
+            }
+            String root = prefix.substring(0, prefix.length() - 1);
+            String lookup = destination.substring(root.length());
+            for (SimpMessageMappingInfo info : handler.getHandlerMethods().keySet()) {
+                for (String pattern : info.getDestinationConditions().getPatterns()) {
+                    if (handler.getPathMatcher().match(pattern, lookup)) {
+                        return root + pattern;
+                    }
+                }
+            }
+        }
+        return UNMAPPED;
+    }
+}
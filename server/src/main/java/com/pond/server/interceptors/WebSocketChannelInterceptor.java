@@ -1,6 +1,8 @@
 package com.pond.server.interceptors;
 
 import com.pond.server.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -15,6 +17,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketChannelInterceptor.class);
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
 
@@ -36,12 +40,12 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
         StompCommand command = accessor.getCommand();
         if (command == null) return message;
 
-        System.out.println("🔍 STOMP Command: " + command);
+        // OPTIMIZED: Per-frame logging is TRACE only; this runs for every inbound STOMP frame
+        logger.trace("STOMP frame command={} session={}", command, accessor.getSessionId());
 
         // ✅ Handle the STOMP CONNECT frame for authentication
         if (StompCommand.CONNECT.equals(command)) {
             String authHeader = accessor.getFirstNativeHeader("Authorization");
-            System.out.println("🔑 Authorization header: " + authHeader);
 
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
@@ -58,25 +62,25 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
                                 );
 
                         accessor.setUser(auth);
-                        System.out.println("✅ STOMP CONNECT authenticated user: " + email);
+                        logger.debug("STOMP CONNECT authenticated user={} session={}", email, accessor.getSessionId());
                     } else {
-                        System.err.println("❌ Invalid JWT token during STOMP CONNECT");
+                        logger.warn("Invalid JWT token during STOMP CONNECT session={}", accessor.getSessionId());
                     }
 
                 } catch (Exception e) {
-                    System.err.println("❌ Error processing JWT: " + e.getMessage());
+                    // Never log the token itself
+                    logger.warn("Error processing JWT during STOMP CONNECT session={}: {}",
+                            accessor.getSessionId(), e.getClass().getSimpleName());
                 }
             } else {
-                System.err.println("⚠️ No Authorization header in STOMP CONNECT");
+                logger.warn("No Authorization header in STOMP CONNECT session={}", accessor.getSessionId());
             }
         }
 
         // For SEND and SUBSCRIBE, maintain authentication context
         if (StompCommand.SEND.equals(command) || StompCommand.SUBSCRIBE.equals(command)) {
-            if (accessor.getUser() != null) {
-                System.out.println("📤 " + command + " from user: " + accessor.getUser().getName());
-            } else {
-                System.err.println("⚠️ " + command + " without authenticated user");
+            if (accessor.getUser() == null) {
+                logger.warn("{} without authenticated user session={}", command, accessor.getSessionId());
             }
         }
 
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -23,7 +24,8 @@ import lombok.Setter;
  * @author Pond Team
  */
 @Entity
-@Table(name = "listings")
+@Table(name = "listings",
+       indexes = @Index(name = "idx_listings_usergu_sold_to", columnList = "usergu, sold_to"))
 @Getter
 @Setter
 public class Listing {
@@ -0,0 +1,44 @@
+package com.pond.server.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity recording that a one-time data maintenance step has completed.
+ * 
+ * <p>Denormalized tables such as follow counts, rating aggregates and report counters are
+ * seeded from their source tables once, the first time the application starts with them.
+ * Rows can appear in those tables before the seed runs, because requests are served before
+ * the startup listeners finish, so the seed is gated on a marker rather than on the table
+ * being empty.</p>
+ * 
+ * @author Pond Team
+ * @see com.pond.server.repository.MaintenanceMarkerRepository
+ */
+@Entity
+@Table(name = "maintenance_markers")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MaintenanceMarker {
+
+    /**
+     * Marker name, e.g. {@code follow-counts-seeded}.
+     */
+    @Id
+    @Column(name = "name", length = 64, updatable = false, nullable = false)
+    private String name;
+
+    /**
+     * When the maintenance step completed.
+     */
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
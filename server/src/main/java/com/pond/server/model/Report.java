@@ -13,6 +13,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -35,7 +36,8 @@ import lombok.Setter;
  * @see com.pond.server.enums.ReportReason
  */
 @Entity
-@Table(name = "reports")
+@Table(name = "reports",
+       indexes = @Index(name = "idx_reports_status_reviewed_at", columnList = "status, reviewed_at"))
 @Getter
 @Setter
 @NoArgsConstructor
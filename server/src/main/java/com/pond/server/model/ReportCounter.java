@@ -0,0 +1,42 @@
+package com.pond.server.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing one incrementally maintained report statistic.
+ * 
+ * <p>Counters are keyed by a short string such as {@code active}, {@code resolved},
+ * {@code status:PENDING}, {@code reason:SPAM} or {@code day:2025-01-31}. They are updated
+ * with atomic delta upserts whenever reports are created, reviewed, archived or deleted,
+ * so the admin dashboard reads a handful of primary-key rows instead of counting the
+ * reports tables.</p>
+ * 
+ * @author Pond Team
+ * @see com.pond.server.service.ReportStatisticsService
+ */
+@Entity
+@Table(name = "report_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReportCounter {
+
+    /**
+     * Counter key, e.g. {@code status:PENDING}.
+     */
+    @Id
+    @Column(name = "counter_key", length = 64, updatable = false, nullable = false)
+    private String counterKey;
+
+    /**
+     * Current counter value.
+     */
+    @Column(name = "value", nullable = false)
+    private long value;
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -26,7 +27,8 @@ import lombok.Setter;
  * @author Pond Team
  */
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews",
+       indexes = @Index(name = "idx_reviews_reviewee_timestamp", columnList = "reviewee_gu, timestamp DESC, id DESC"))
 @Getter
 @Setter
 @AllArgsConstructor
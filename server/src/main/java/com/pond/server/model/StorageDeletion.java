@@ -0,0 +1,79 @@
+package com.pond.server.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing one storage object waiting to be removed from a Supabase bucket.
+ *
+ * <p>Rows are inserted in the same transaction that deletes the database rows referencing
+ * the object, so a rollback never loses an image and a commit never leaves one behind.
+ * A background worker removes queued objects in bulk and deletes the rows afterwards;
+ * anything still queued after a crash is picked up on the next run.</p>
+ *
+ * @author Pond Team
+ * @see com.pond.server.service.StorageCleanupService
+ */
+@Entity
+@Table(name = "storage_deletions",
+       uniqueConstraints = @UniqueConstraint(name = "uk_storage_deletions_bucket_key", columnNames = {"bucket", "object_key"}),
+       indexes = @Index(name = "idx_storage_deletions_next_attempt", columnList = "next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class StorageDeletion {
+
+    /**
+     * Unique identifier of the queue entry.
+     */
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    /**
+     * Name of the storage bucket holding the object.
+     */
+    @Column(name = "bucket", length = 64, nullable = false)
+    private String bucket;
+
+    /**
+     * Object key within the bucket, e.g. {@code {userGU}/{uuid}.jpg}.
+     */
+    @Column(name = "object_key", length = 512, nullable = false)
+    private String objectKey;
+
+    /**
+     * When the object was queued.
+     */
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    /**
+     * Number of removal attempts made so far.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * Earliest time the next removal attempt may run. Claimed entries are leased
+     * by moving this forward, so a crashed worker's entries become due again.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Error message of the last failed attempt, if any.
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,48 @@
+package com.pond.server.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity holding denormalized follower and following counts for a user.
+ * 
+ * <p>Maintained incrementally by {@link com.pond.server.service.UserFollowingService}
+ * on follow, unfollow and account deletion, and reconciled periodically against the
+ * follows table. Profile pages read both counts with one primary-key lookup.</p>
+ * 
+ * @author Pond Team
+ * @see UserFollowing
+ */
+@Entity
+@Table(name = "user_follow_counts")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserFollowCounts {
+
+    /**
+     * UUID of the user these counts belong to.
+     */
+    @Id
+    @Column(name = "user_gu", updatable = false, nullable = false)
+    private UUID userGu;
+
+    /**
+     * Number of users following this user.
+     */
+    @Column(name = "follower_count", nullable = false)
+    private long followerCount;
+
+    /**
+     * Number of users this user follows.
+     */
+    @Column(name = "following_count", nullable = false)
+    private long followingCount;
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
@@ -25,7 +26,8 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "follows", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"follower_gu", "following_gu"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"follower_gu", "following_gu"}),
+       indexes = @Index(name = "idx_follows_following_gu", columnList = "following_gu"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,88 @@
+package com.pond.server.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing the rating aggregate of a reviewed user.
+ * 
+ * <p>Holds the review count, the sum of all ratings and a 1–5 star histogram.
+ * Maintained incrementally by {@link com.pond.server.service.ReviewService} whenever
+ * a review is created, edited or deleted, so profile pages read a user's rating
+ * with a single primary-key lookup instead of aggregating the reviews table.</p>
+ * 
+ * @author Pond Team
+ * @see Review
+ */
+@Entity
+@Table(name = "user_rating_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserRatingStats {
+
+    /**
+     * UUID of the reviewed user.
+     */
+    @Id
+    @Column(name = "user_gu", updatable = false, nullable = false)
+    private UUID userGu;
+
+    /**
+     * Number of reviews received.
+     */
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    /**
+     * Sum of all ratings received.
+     */
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    /**
+     * Number of 1-star reviews.
+     */
+    @Column(name = "stars1", nullable = false)
+    private long stars1;
+
+    /**
+     * Number of 2-star reviews.
+     */
+    @Column(name = "stars2", nullable = false)
+    private long stars2;
+
+    /**
+     * Number of 3-star reviews.
+     */
+    @Column(name = "stars3", nullable = false)
+    private long stars3;
+
+    /**
+     * Number of 4-star reviews.
+     */
+    @Column(name = "stars4", nullable = false)
+    private long stars4;
+
+    /**
+     * Number of 5-star reviews.
+     */
+    @Column(name = "stars5", nullable = false)
+    private long stars5;
+
+    /**
+     * Calculates the average rating.
+     * 
+     * @return the average rating, or 0.0 if the user has no reviews
+     */
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+}
@@ -1,14 +1,16 @@
 package com.pond.server.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import com.pond.server.dto.ListingDTO;
+import com.pond.server.dto.ListingCardDTO;
 import com.pond.server.model.Listing;
 
 /**
@@ -84,8 +86,11 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
     );
     
     /**
-     * Finds listings matching filter criteria using DTO projection.
-     * OPTIMIZED: Returns DTOs directly to avoid entity materialization overhead.
+     * Finds listing cards matching filter criteria using a slim DTO projection.
+     * OPTIMIZED: Selects only the columns a feed card renders (no description or second picture)
+     * to cut transfer and serialization, avoids entity materialization, and is joined with
+     * the seller's username, avatar and materialized rating so feed cards need no follow-up
+     * profile or rating requests per seller.
      * Only returns unsold listings.
      * 
      * @param categories list of category names to filter by (null for all)
@@ -94,12 +99,15 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
      * @param sortBy field to sort by ("price" or "date")
      * @param sortOrder sort direction ("asc" or "desc")
      * @param pageable pagination parameters
-     * @return list of matching listing DTOs
+     * @return list of matching listing cards with seller summaries
      */
-    @Query("SELECT new com.pond.server.dto.ListingDTO(" +
-           "l.listingGU, l.userGU, l.title, l.description, l.picture1_url, l.picture2_url, " +
-           "l.price, l.condition, l.category, l.createdAt, l.sold, l.soldTo) " +
-           "FROM Listing l WHERE " +
+    @Query("SELECT new com.pond.server.dto.ListingCardDTO(" +
+           "l.listingGU, l.userGU, l.title, l.price, l.category, l.condition, l.picture1_url, l.createdAt, " +
+           "u.username, u.avatar_url, rs.reviewCount, rs.ratingSum) " +
+           "FROM Listing l " +
+           "LEFT JOIN User u ON u.id = l.userGU " +
+           "LEFT JOIN UserRatingStats rs ON rs.userGu = l.userGU " +
+           "WHERE " +
            "l.sold = false AND " +
            "(COALESCE(:categories, NULL) IS NULL OR l.category IN :categories) AND " +
            "(:minPrice IS NULL OR l.price >= :minPrice) AND " +
@@ -109,7 +117,7 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
            "CASE WHEN :sortBy = 'price' AND :sortOrder = 'desc' THEN l.price END DESC NULLS LAST, " +
            "CASE WHEN :sortBy = 'date' AND :sortOrder = 'asc' THEN l.createdAt END ASC NULLS LAST, " +
            "CASE WHEN :sortBy = 'date' AND :sortOrder = 'desc' THEN l.createdAt END DESC NULLS LAST")
-    List<ListingDTO> findFilteredDTOWithLimit(
+    List<ListingCardDTO> findFilteredCardsWithLimit(
         @Param("categories") List<String> categories,
         @Param("minPrice") Double minPrice,
         @Param("maxPrice") Double maxPrice,
@@ -170,8 +178,8 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
     );
     
     /**
-     * Finds listings from specific users using DTO projection.
-     * OPTIMIZED: Returns DTOs directly for better performance.
+     * Finds listing cards from specific users using a slim DTO projection.
+     * OPTIMIZED: Same card columns and seller summary join as {@link #findFilteredCardsWithLimit}.
      * Only returns unsold listings.
      * 
      * @param userIds list of user UUIDs whose listings to fetch
@@ -181,12 +189,15 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
      * @param sortBy field to sort by ("price" or "date")
      * @param sortOrder sort direction ("asc" or "desc")
      * @param pageable pagination parameters
-     * @return list of matching listing DTOs from specified users
+     * @return list of matching listing cards with seller summaries from specified users
      */
-    @Query("SELECT new com.pond.server.dto.ListingDTO(" +
-           "l.listingGU, l.userGU, l.title, l.description, l.picture1_url, l.picture2_url, " +
-           "l.price, l.condition, l.category, l.createdAt, l.sold, l.soldTo) " +
-           "FROM Listing l WHERE " +
+    @Query("SELECT new com.pond.server.dto.ListingCardDTO(" +
+           "l.listingGU, l.userGU, l.title, l.price, l.category, l.condition, l.picture1_url, l.createdAt, " +
+           "u.username, u.avatar_url, rs.reviewCount, rs.ratingSum) " +
+           "FROM Listing l " +
+           "LEFT JOIN User u ON u.id = l.userGU " +
+           "LEFT JOIN UserRatingStats rs ON rs.userGu = l.userGU " +
+           "WHERE " +
            "l.sold = false AND " +
            "l.userGU IN :userIds AND " +
            "(COALESCE(:categories, NULL) IS NULL OR l.category IN :categories) AND " +
@@ -197,7 +208,7 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
            "CASE WHEN :sortBy = 'price' AND :sortOrder = 'desc' THEN l.price END DESC NULLS LAST, " +
            "CASE WHEN :sortBy = 'date' AND :sortOrder = 'asc' THEN l.createdAt END ASC NULLS LAST, " +
            "CASE WHEN :sortBy = 'date' AND :sortOrder = 'desc' THEN l.createdAt END DESC NULLS LAST")
-    List<ListingDTO> findFollowingFilteredDTOWithLimit(
+    List<ListingCardDTO> findFollowingFilteredCardsWithLimit(
         @Param("userIds") List<UUID> userIds,
         @Param("categories") List<String> categories,
         @Param("minPrice") Double minPrice,
@@ -207,33 +218,22 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
         org.springframework.data.domain.Pageable pageable
     );
 
-    /**
-     * Finds listings sold by a specific user to a specific buyer.
-     * 
-     * @param userGU UUID of the seller
-     * @param soldTo UUID of the buyer
-     * @return list of listings matching the criteria
-     */
-    List<Listing> findByUserGUAndSoldTo(UUID userGU, UUID soldTo);
-
     /**
      * Checks if a transaction occurred between two users.
      * Used to verify that users have completed a transaction before allowing reviews.
      * Returns true if either user sold to the other.
+     * OPTIMIZED: Two EXISTS probes, one per direction, each an equality lookup on the
+     * (usergu, sold_to) index that stops at the first match. Replaces a COUNT over an OR
+     * predicate that could not use a single index, and loading full listing lists.
      * 
      * @param reviewerGu UUID of the reviewing user
      * @param revieweeGu UUID of the user being reviewed
      * @return true if a transaction occurred, false otherwise
      */
-    @Query("""
-    SELECT CASE WHEN COUNT(l) > 0 THEN TRUE ELSE FALSE END
-    FROM Listing l
-    WHERE l.soldTo IS NOT NULL
-      AND (
-            (l.userGU = :reviewerGu AND l.soldTo = :revieweeGu)
-         OR (l.userGU = :revieweeGu AND l.soldTo = :reviewerGu)
-      )
-    """)
+    @Query(value = """
+        SELECT EXISTS (SELECT 1 FROM listings WHERE usergu = :reviewerGu AND sold_to = :revieweeGu)
+            OR EXISTS (SELECT 1 FROM listings WHERE usergu = :revieweeGu AND sold_to = :reviewerGu)
+        """, nativeQuery = true)
     boolean didTransactionOccur(
             @Param("reviewerGu") UUID reviewerGu,
             @Param("revieweeGu") UUID revieweeGu
@@ -258,4 +258,46 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
         return findFollowingFilteredWithLimit(userIds, categories, minPrice, maxPrice, sortBy, sortOrder,
                                              org.springframework.data.domain.PageRequest.of(0, 500));
     }
+
+    /**
+     * Finds the ids and image URLs of every listing owned by a user.
+     * OPTIMIZED: Narrow projection for bulk deletion; rows are {listingGU, picture1_url, picture2_url}.
+     * 
+     * @param userGU the UUID of the owner
+     * @return one row per listing
+     */
+    @Query("SELECT l.listingGU, l.picture1_url, l.picture2_url FROM Listing l WHERE l.userGU = :userGU")
+    List<Object[]> findImageUrlsByUserGU(@Param("userGU") UUID userGU);
+
+    /**
+     * Finds the ids and image URLs of listings by id.
+     * OPTIMIZED: Narrow projection for bulk deletion; rows are {listingGU, picture1_url, picture2_url}.
+     * 
+     * @param listingGUs UUIDs of the listings; must not be empty
+     * @return one row per existing listing
+     */
+    @Query("SELECT l.listingGU, l.picture1_url, l.picture2_url FROM Listing l WHERE l.listingGU IN :listingGUs")
+    List<Object[]> findImageUrlsByListingGUIn(@Param("listingGUs") Collection<UUID> listingGUs);
+
+    /**
+     * Finds the ids and image URLs of listings by id, restricted to listings owned by a user.
+     * Used to verify ownership before delete operations.
+     * 
+     * @param listingGUs UUIDs of the listings; must not be empty
+     * @param userGU the UUID of the owner
+     * @return one row per listing that exists and is owned by the user
+     */
+    @Query("SELECT l.listingGU, l.picture1_url, l.picture2_url FROM Listing l WHERE l.listingGU IN :listingGUs AND l.userGU = :userGU")
+    List<Object[]> findImageUrlsByListingGUInAndUserGU(@Param("listingGUs") Collection<UUID> listingGUs, @Param("userGU") UUID userGU);
+
+    /**
+     * Deletes listings by id. Reports must be deleted first.
+     * OPTIMIZED: One set-based statement instead of one DELETE per loaded entity.
+     * 
+     * @param listingGUs UUIDs of the listings; must not be empty
+     * @return number of listings deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Listing l WHERE l.listingGU IN :listingGUs")
+    int deleteByListingGUIn(@Param("listingGUs") Collection<UUID> listingGUs);
 }
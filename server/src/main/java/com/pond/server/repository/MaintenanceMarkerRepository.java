@@ -0,0 +1,35 @@
+package com.pond.server.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.pond.server.model.MaintenanceMarker;
+
+/**
+ * Repository interface for {@link MaintenanceMarker} entity database operations.
+ * 
+ * <p>Markers are checked with the inherited {@code existsById} and written with an
+ * idempotent insert, so instances seeding concurrently do not fail on the key.</p>
+ * 
+ * @author Pond Team
+ * @see MaintenanceMarker
+ */
+@Repository
+public interface MaintenanceMarkerRepository extends JpaRepository<MaintenanceMarker, String> {
+
+    /**
+     * Records a maintenance step as completed unless it already is.
+     * 
+     * @param name the marker name
+     * @return 1 if the marker was created, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO maintenance_markers (name, completed_at) VALUES (:name, now())
+        ON CONFLICT (name) DO NOTHING
+        """, nativeQuery = true)
+    int markCompleted(@Param("name") String name);
+}
@@ -1,5 +1,6 @@
 package com.pond.server.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -53,18 +54,6 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
      */
     List<Message> findByRoomIdOrderByTimestampDesc(String roomId, Pageable pageable);
 
-    /**
-     * Marks all unread messages as read for a specific user in a chat room.
-     * Used when a user opens a chat to mark the other person's messages as read.
-     * 
-     * @param roomId the chat room identifier
-     * @param userGU UUID of the user reading the messages
-     * @return number of messages marked as read
-     */
-    @Modifying
-    @Query("UPDATE Message m SET m.isRead = true WHERE m.roomId = :roomId AND m.senderGU != :userGU AND m.isRead = false")
-    int markRoomMessagesAsRead(@Param("roomId") String roomId, @Param("userGU") UUID userGU);
-
     /**
      * Counts unread messages for a user in a specific chat room.
      * Used for showing unread badge count on individual chat rooms.
@@ -85,4 +74,59 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
      */
     @Query("SELECT COUNT(m) FROM Message m WHERE m.senderGU != :userGU AND m.isRead = false AND m.roomId IN (SELECT cr.roomId FROM ChatRoom cr WHERE cr.sellerGU = :userGU OR cr.buyerGU = :userGU)")
     long countUnreadMessagesByUser(@Param("userGU") UUID userGU);
-}
\ No newline at end of file
+
+    /**
+     * Marks messages as read for many (room, reader) pairs at once, up to each pair's read watermark.
+     * Used by the read receipt buffer to flush coalesced mark-read events.
+     * OPTIMIZED: One UPDATE per batch of pairs instead of one per mark-read request. Messages
+     * sent after the watermark stay unread even though the flush runs later.
+     * 
+     * @param roomIds the chat room identifiers
+     * @param userGUs UUIDs of the readers, aligned with roomIds
+     * @param readUntil ISO timestamps of the read watermarks, aligned with roomIds
+     * @return number of messages marked as read
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE messages m SET is_read = true
+        FROM unnest(CAST(:roomIds AS text[]), CAST(:userGUs AS uuid[]), CAST(:readUntil AS timestamp[]))
+             AS w(room_id, user_gu, read_until)
+        WHERE m.room_id = w.room_id AND m.sender_gu <> w.user_gu AND m.is_read = false
+          AND m.timestamp <= w.read_until
+        """, nativeQuery = true)
+    int markRoomsReadUpTo(@Param("roomIds") String[] roomIds, @Param("userGUs") String[] userGUs,
+                          @Param("readUntil") String[] readUntil);
+
+    /**
+     * Counts unread messages for a user in a chat room that were sent after a read watermark.
+     * Used while a mark-read for the room is buffered and not yet written.
+     * 
+     * @param roomId the chat room identifier
+     * @param userGU UUID of the user
+     * @param readUntil the buffered read watermark
+     * @return count of unread messages newer than the watermark
+     */
+    @Query("SELECT COUNT(m) FROM Message m WHERE m.roomId = :roomId AND m.senderGU != :userGU AND m.isRead = false AND m.timestamp > :readUntil")
+    long countUnreadMessagesAfter(@Param("roomId") String roomId, @Param("userGU") UUID userGU,
+                                  @Param("readUntil") LocalDateTime readUntil);
+
+    /**
+     * Counts total unread messages across all chat rooms for a user, treating messages up to
+     * the buffered read watermarks of the given rooms as read.
+     * 
+     * @param userGU UUID of the user
+     * @param roomIds the rooms with a buffered mark-read
+     * @param readUntil ISO timestamps of the read watermarks, aligned with roomIds
+     * @return total count of unread messages across all rooms
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM messages m
+        WHERE m.sender_gu <> :userGU AND m.is_read = false
+          AND m.room_id IN (SELECT cr.room_id FROM chat_rooms cr WHERE cr.seller_gu = :userGU OR cr.buyer_gu = :userGU)
+          AND NOT EXISTS (
+              SELECT 1 FROM unnest(CAST(:roomIds AS text[]), CAST(:readUntil AS timestamp[])) AS w(room_id, read_until)
+              WHERE w.room_id = m.room_id AND m.timestamp <= w.read_until)
+        """, nativeQuery = true)
+    long countUnreadMessagesByUserExcept(@Param("userGU") UUID userGU, @Param("roomIds") String[] roomIds,
+                                         @Param("readUntil") String[] readUntil);
+}
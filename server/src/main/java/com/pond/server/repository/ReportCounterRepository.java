@@ -0,0 +1,121 @@
+package com.pond.server.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.pond.server.model.ReportCounter;
+
+/**
+ * Repository interface for {@link ReportCounter} entity database operations.
+ * 
+ * <p>Provides atomic delta updates and a full rebuild from the reports tables.
+ * Reads go through the inherited primary-key lookups.</p>
+ * 
+ * @author Pond Team
+ * @see ReportCounter
+ * @see com.pond.server.service.ReportStatisticsService
+ */
+@Repository
+public interface ReportCounterRepository extends JpaRepository<ReportCounter, String> {
+
+    /**
+     * Atomically adds a delta to a counter, creating it if missing.
+     * OPTIMIZED: Single upsert statement; concurrent writers serialize on the row
+     * instead of doing read-modify-write in Java.
+     * 
+     * @param key the counter key
+     * @param delta the amount to add (may be negative)
+     * @return number of rows affected
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO report_counters (counter_key, value) VALUES (:key, :delta)
+        ON CONFLICT (counter_key) DO UPDATE SET value = report_counters.value + EXCLUDED.value
+        """, nativeQuery = true)
+    int increment(@Param("key") String key, @Param("delta") long delta);
+
+    /**
+     * Locks the counters table against concurrent delta updates until the transaction ends.
+     * Writers that already changed counters must commit first, so a rebuild sees their
+     * report rows; writers that arrive later wait and apply their delta on top of it.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE report_counters IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * Removes every counter. Used before a rebuild.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM report_counters", nativeQuery = true)
+    void deleteAllCounters();
+
+    /**
+     * Recomputes all counters from the reports and resolved_reports tables.
+     * Status counters cover active reports; reason and day counters cover every
+     * report on record (active and archived).
+     * 
+     * @return number of counter rows written
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO report_counters (counter_key, value)
+        SELECT 'active', count(*) FROM reports
+        UNION ALL
+        SELECT 'resolved', count(*) FROM resolved_reports
+        UNION ALL
+        SELECT 'status:' || status, count(*) FROM reports GROUP BY status
+        UNION ALL
+        SELECT 'reason:' || reason, count(*)
+        FROM (SELECT reason FROM reports UNION ALL SELECT reason FROM resolved_reports) r
+        GROUP BY reason
+        UNION ALL
+        SELECT 'day:' || to_char(created_at, 'YYYY-MM-DD'), count(*)
+        FROM (SELECT created_at FROM reports UNION ALL SELECT created_at FROM resolved_reports) d
+        GROUP BY to_char(created_at, 'YYYY-MM-DD')
+        """, nativeQuery = true)
+    int rebuildFromReports();
+
+    /**
+     * Subtracts the reports filed against the given listings, active and archived, from every
+     * counter they contribute to. Must run before those reports are deleted, in the same transaction.
+     * OPTIMIZED: One aggregate upsert instead of loading every report to compute deltas in Java.
+     * Deltas are applied in key order, like {@code ReportStatisticsService}, so concurrent
+     * writers lock counter rows in the same order.
+     * 
+     * @param listingGUs UUIDs of the listings; must not be empty
+     * @return number of counter rows changed
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO report_counters (counter_key, value)
+        SELECT counter_key, -sum(n) FROM (
+            SELECT 'active' AS counter_key, count(*) AS n FROM reports WHERE listing_gu IN (:listingGUs)
+            UNION ALL
+            SELECT 'resolved', count(*) FROM resolved_reports WHERE listing_gu IN (:listingGUs)
+            UNION ALL
+            SELECT 'status:' || status, count(*) FROM reports WHERE listing_gu IN (:listingGUs) GROUP BY status
+            UNION ALL
+            SELECT 'reason:' || reason, count(*)
+            FROM (SELECT reason FROM reports WHERE listing_gu IN (:listingGUs)
+                  UNION ALL SELECT reason FROM resolved_reports WHERE listing_gu IN (:listingGUs)) r
+            GROUP BY reason
+            UNION ALL
+            SELECT 'day:' || to_char(created_at, 'YYYY-MM-DD'), count(*)
+            FROM (SELECT created_at FROM reports WHERE listing_gu IN (:listingGUs)
+                  UNION ALL SELECT created_at FROM resolved_reports WHERE listing_gu IN (:listingGUs)) d
+            GROUP BY to_char(created_at, 'YYYY-MM-DD')
+        ) deltas
+        GROUP BY counter_key
+        HAVING sum(n) > 0
+        ORDER BY counter_key
+        ON CONFLICT (counter_key) DO UPDATE SET value = report_counters.value + EXCLUDED.value
+        """, nativeQuery = true)
+    int subtractReportsOfListings(@Param("listingGUs") Collection<UUID> listingGUs);
+}
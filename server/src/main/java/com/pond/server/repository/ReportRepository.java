@@ -1,5 +1,7 @@
 package com.pond.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,9 +9,11 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.pond.server.enums.ReportStatus;
 import com.pond.server.model.Report;
@@ -98,15 +102,6 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
      */
     Optional<Report> findByUserGUAndListingGU(UUID userGU, UUID listingGU);
     
-    /**
-     * Counts reports with a specific status.
-     * Used for admin notification badge showing pending report count.
-     * 
-     * @param status the report status to count
-     * @return count of reports with the specified status
-     */
-    long countByStatus(ReportStatus status);
-    
     /**
      * Gets all reports ordered by creation date (newest first).
      * 
@@ -114,4 +109,86 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
      * @return page of all reports ordered by creation date descending
      */
     Page<Report> findAllByOrderByCreatedAtDesc(Pageable pageable);
-}
\ No newline at end of file
+    
+    /**
+     * Moves one chunk of reports with the given status, reviewed before the cutoff,
+     * into the resolved_reports archive table.
+     * OPTIMIZED: Single set-based statement (DELETE ... RETURNING feeding an INSERT ... SELECT),
+     * driven by the (status, reviewed_at) index. SKIP LOCKED lets concurrent archivers
+     * work on disjoint chunks instead of blocking each other.
+     * Runs in its own transaction so each chunk commits independently.
+     * 
+     * @param status the report status to archive (stored as the enum name)
+     * @param cutoff only reports reviewed before this time are archived
+     * @param archivedAt the archive timestamp written to each moved row
+     * @param batchSize maximum number of reports to move in this chunk
+     * @return number of reports removed from the reports table; rows already present in the
+     *         archive are removed without being inserted again, so this is the chunk progress
+     */
+    @Transactional
+    @Query(value = """
+        WITH moved AS (
+            DELETE FROM reports
+            WHERE report_gu IN (
+                SELECT report_gu FROM reports
+                WHERE status = :status AND reviewed_at < :cutoff
+                ORDER BY reviewed_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            RETURNING report_gu, user_gu, listing_gu, reason, message, status, created_at,
+                      reviewed_by_admin_gu, reviewed_at, admin_notes),
+        archived AS (
+            INSERT INTO resolved_reports (report_gu, user_gu, listing_gu, reason, message, status, created_at,
+                                          reviewed_by_admin_gu, reviewed_at, admin_notes, archived_at)
+            SELECT report_gu, user_gu, listing_gu, reason, message, status, created_at,
+                   reviewed_by_admin_gu, reviewed_at, admin_notes, :archivedAt
+            FROM moved
+            ON CONFLICT (report_gu) DO NOTHING)
+        SELECT count(*) FROM moved
+        """, nativeQuery = true)
+    long archiveReviewedBefore(@Param("status") String status,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               @Param("archivedAt") LocalDateTime archivedAt,
+                               @Param("batchSize") int batchSize);
+    
+    /**
+     * Tries to take the report archiver's transaction-scoped advisory lock.
+     * The lock is released automatically when the surrounding transaction ends,
+     * which keeps it safe behind a transaction-mode connection pooler.
+     * Must be called inside an existing transaction.
+     * 
+     * @param key the advisory lock key
+     * @return true if the lock was acquired, false if another session holds it
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAcquireArchiveLock(@Param("key") long key);
+    
+    /**
+     * Resolves usernames and listing titles for report enrichment in one round trip.
+     * OPTIMIZED: Narrow projection (id and display name only) instead of loading full
+     * User and Listing entities. Each row is {kind, id, name} where kind is 'U' for a
+     * user and 'L' for a listing. Neither list may be empty; callers pad with a nil UUID.
+     * 
+     * @param userIds UUIDs of users to resolve
+     * @param listingIds UUIDs of listings to resolve
+     * @return rows of {kind, id, name} for every id that exists
+     */
+    @Query(value = """
+        SELECT 'U' AS kind, usergu AS id, username AS name FROM users WHERE usergu IN (:userIds)
+        UNION ALL
+        SELECT 'L' AS kind, listinggu AS id, title AS name FROM listings WHERE listinggu IN (:listingIds)
+        """, nativeQuery = true)
+    List<Object[]> findDisplayNames(@Param("userIds") List<UUID> userIds,
+                                    @Param("listingIds") List<UUID> listingIds);
+
+    /**
+     * Deletes every active report filed against the given listings.
+     * OPTIMIZED: One set-based statement instead of loading and deleting reports one by one.
+     * 
+     * @param listingGUs UUIDs of the listings; must not be empty
+     * @return number of reports deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.listingGU IN :listingGUs")
+    int deleteByListingGUIn(@Param("listingGUs") Collection<UUID> listingGUs);
+}
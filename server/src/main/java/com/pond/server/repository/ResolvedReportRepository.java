@@ -1,9 +1,13 @@
 package com.pond.server.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.pond.server.model.ResolvedReport;
@@ -38,5 +42,15 @@ public interface ResolvedReportRepository extends JpaRepository<ResolvedReport,
      * @param listingGU UUID of the listing
      */
     void deleteByListingGU(UUID listingGU);
-}
 
+    /**
+     * Deletes every archived report filed against the given listings.
+     * OPTIMIZED: One set-based statement instead of loading and deleting reports one by one.
+     * 
+     * @param listingGUs UUIDs of the listings; must not be empty
+     * @return number of archived reports deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ResolvedReport r WHERE r.listingGU IN :listingGUs")
+    int deleteByListingGUIn(@Param("listingGUs") Collection<UUID> listingGUs);
+}
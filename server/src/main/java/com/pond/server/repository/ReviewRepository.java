@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,6 +33,15 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
      * @return list of reviews written by the user
      */
     List<Review> findReviewByReviewerGu(UUID reviewerGu);
+
+    /**
+     * Finds the distinct users reviewed by a specific user.
+     * 
+     * @param reviewerGu UUID of the reviewer
+     * @return UUIDs of the users the reviewer has reviewed
+     */
+    @Query("SELECT DISTINCT r.revieweeGu FROM Review r WHERE r.reviewerGu = :reviewerGu")
+    List<UUID> findRevieweeGusByReviewerGu(@Param("reviewerGu") UUID reviewerGu);
     
     /**
      * Finds all reviews received by a specific user.
@@ -70,44 +80,51 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     boolean existsByReviewerGuAndRevieweeGu(UUID reviewerGu, UUID revieweeGu);
 
     /**
-     * Calculates the average rating for a user.
-     * Used to display overall seller rating.
-     * 
-     * @param revieweeGu UUID of the user being reviewed
-     * @return average rating as a Double, null if no reviews exist
-     */
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.revieweeGu = :revieweeGu")
-    Double findAverageRatingByRevieweeGu(@Param("revieweeGu") UUID revieweeGu);
-
-    /**
-     * Counts the total number of reviews received by a user.
+     * Fetches a single review with reviewer information using DTO projection.
+     * OPTIMIZED: Uses JOIN to fetch reviewer details in a single query.
      * 
-     * @param revieweeGu UUID of the user being reviewed
-     * @return count of reviews
+     * @param reviewId UUID of the review
+     * @return an Optional containing the ReviewDTO if found
      */
-    Long countByRevieweeGu(UUID revieweeGu);
+    @Query("SELECT new com.pond.server.dto.ReviewDTO(r.id, r.reviewerGu, r.revieweeGu, r.rating, r.comment, r.timestamp, r.updatedAt, u.username, u.avatar_url) " +
+           "FROM Review r JOIN User u ON r.reviewerGu = u.id " +
+           "WHERE r.id = :reviewId")
+    Optional<ReviewDTO> findReviewWithReviewerInfoById(@Param("reviewId") UUID reviewId);
 
     /**
-     * Fetches reviews with reviewer information using DTO projection.
-     * OPTIMIZED: Uses JOIN to fetch reviewer details in a single query.
+     * Fetches the newest reviews for a user with reviewer information.
+     * First page of the keyset-paginated review listing.
+     * OPTIMIZED: Ordered by (timestamp, id) descending so the (reviewee_gu, timestamp DESC, id DESC)
+     * index returns rows in order and the scan stops after the page.
      * 
      * @param revieweeGu UUID of the user whose reviews to fetch
-     * @return list of ReviewDTOs with reviewer information
+     * @param pageable page size (page number is always 0)
+     * @return list of ReviewDTOs, newest first
      */
     @Query("SELECT new com.pond.server.dto.ReviewDTO(r.id, r.reviewerGu, r.revieweeGu, r.rating, r.comment, r.timestamp, r.updatedAt, u.username, u.avatar_url) " +
            "FROM Review r JOIN User u ON r.reviewerGu = u.id " +
-           "WHERE r.revieweeGu = :revieweeGu")
-    List<ReviewDTO> findReviewsWithReviewerInfoByRevieweeGu(@Param("revieweeGu") UUID revieweeGu);
+           "WHERE r.revieweeGu = :revieweeGu " +
+           "ORDER BY r.timestamp DESC, r.id DESC")
+    List<ReviewDTO> findReviewPageByRevieweeGu(@Param("revieweeGu") UUID revieweeGu, Pageable pageable);
 
     /**
-     * Fetches a single review with reviewer information using DTO projection.
-     * OPTIMIZED: Uses JOIN to fetch reviewer details in a single query.
+     * Fetches the reviews for a user that come after a cursor, with reviewer information.
+     * Subsequent pages of the keyset-paginated review listing.
+     * OPTIMIZED: Row comparison on (timestamp, id) seeks directly into the index, so
+     * query time stays flat no matter how deep the page is.
      * 
-     * @param reviewId UUID of the review
-     * @return an Optional containing the ReviewDTO if found
+     * @param revieweeGu UUID of the user whose reviews to fetch
+     * @param timestamp timestamp of the last review on the previous page
+     * @param id id of the last review on the previous page
+     * @param pageable page size (page number is always 0)
+     * @return list of ReviewDTOs older than the cursor, newest first
      */
     @Query("SELECT new com.pond.server.dto.ReviewDTO(r.id, r.reviewerGu, r.revieweeGu, r.rating, r.comment, r.timestamp, r.updatedAt, u.username, u.avatar_url) " +
            "FROM Review r JOIN User u ON r.reviewerGu = u.id " +
-           "WHERE r.id = :reviewId")
-    Optional<ReviewDTO> findReviewWithReviewerInfoById(@Param("reviewId") UUID reviewId);
+           "WHERE r.revieweeGu = :revieweeGu AND (r.timestamp, r.id) < (:timestamp, :id) " +
+           "ORDER BY r.timestamp DESC, r.id DESC")
+    List<ReviewDTO> findReviewPageByRevieweeGuBefore(@Param("revieweeGu") UUID revieweeGu,
+                                                     @Param("timestamp") LocalDateTime timestamp,
+                                                     @Param("id") UUID id,
+                                                     Pageable pageable);
 }
@@ -1,10 +1,13 @@
 package com.pond.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -71,6 +74,17 @@ public interface SavedListingRepository extends JpaRepository<SavedListing, UUID
     @Query("SELECT s.listingGU FROM SavedListing s WHERE s.userGU = :userGU")
     List<UUID> findListingGUsByUserGU(@Param("userGU") UUID userGU);
     
+    /**
+     * Gets which of the given listings a user has saved.
+     * OPTIMIZED: Single IN query served by the (user_gu, listing_gu) unique index.
+     * 
+     * @param userGU UUID of the user
+     * @param listingGUs UUIDs of the listings to check
+     * @return the subset of listingGUs saved by the user
+     */
+    @Query("SELECT s.listingGU FROM SavedListing s WHERE s.userGU = :userGU AND s.listingGU IN :listingGUs")
+    List<UUID> findSavedListingGUsIn(@Param("userGU") UUID userGU, @Param("listingGUs") Collection<UUID> listingGUs);
+    
     /**
      * Gets saved listings with full listing details using JOIN query.
      * OPTIMIZED: Prevents N+1 query problem by fetching listings in one query.
@@ -84,5 +98,37 @@ public interface SavedListingRepository extends JpaRepository<SavedListing, UUID
            "WHERE s.userGU = :userGU " +
            "ORDER BY s.savedAt DESC")
     List<Listing> findSavedListingsWithDetails(@Param("userGU") UUID userGU);
+    
+    /**
+     * Saves a listing for a user if the listing exists and is not already saved.
+     * OPTIMIZED: One statement; the unique (user_gu, listing_gu) constraint does the dedup
+     * via ON CONFLICT DO NOTHING, so concurrent double-clicks are harmless.
+     * 
+     * @param userGU UUID of the user
+     * @param listingGU UUID of the listing to save
+     * @param savedAt timestamp of the save
+     * @return 1 if the listing was saved, 0 if it was already saved or does not exist
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO saved_listings (id, user_gu, listing_gu, saved_at)
+        SELECT gen_random_uuid(), :userGU, :listingGU, :savedAt
+        WHERE EXISTS (SELECT 1 FROM listings WHERE listinggu = :listingGU)
+        ON CONFLICT (user_gu, listing_gu) DO NOTHING
+        """, nativeQuery = true)
+    int saveIfAbsent(@Param("userGU") UUID userGU,
+                     @Param("listingGU") UUID listingGU,
+                     @Param("savedAt") LocalDateTime savedAt);
+    
+    /**
+     * Removes a saved listing if present.
+     * OPTIMIZED: One DELETE statement instead of a lookup followed by a delete.
+     * 
+     * @param userGU UUID of the user
+     * @param listingGU UUID of the listing to unsave
+     * @return 1 if the listing was unsaved, 0 if it was not saved
+     */
+    @Modifying
+    @Query("DELETE FROM SavedListing s WHERE s.userGU = :userGU AND s.listingGU = :listingGU")
+    int unsaveIfPresent(@Param("userGU") UUID userGU, @Param("listingGU") UUID listingGU);
 }
-
@@ -0,0 +1,140 @@
+package com.pond.server.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.pond.server.model.StorageDeletion;
+
+/**
+ * Repository interface for {@link StorageDeletion} entity database operations.
+ *
+ * <p>Provides a duplicate-tolerant bulk enqueue and a claim query that lets several
+ * instances drain the queue concurrently without handing out the same entry twice.
+ * Failed entries are retried with exponential backoff until they become dead letters,
+ * which stay in the table for inspection.</p>
+ *
+ * @author Pond Team
+ * @see StorageDeletion
+ * @see com.pond.server.service.StorageCleanupService
+ */
+@Repository
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, UUID> {
+
+    /**
+     * Queues objects for removal, ignoring objects that are already queued.
+     * OPTIMIZED: One statement for the whole batch of keys, bound as a single array parameter.
+     *
+     * @param bucket the storage bucket
+     * @param keys the object keys; must not be empty
+     * @param now the enqueue time, also the first attempt time
+     * @return number of entries added
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO storage_deletions (id, bucket, object_key, enqueued_at, attempts, next_attempt_at)
+        SELECT gen_random_uuid(), :bucket, k.object_key, :now, 0, :now
+        FROM unnest(CAST(:keys AS text[])) AS k(object_key)
+        ON CONFLICT (bucket, object_key) DO NOTHING
+        """, nativeQuery = true)
+    int enqueue(@Param("bucket") String bucket, @Param("keys") String[] keys, @Param("now") LocalDateTime now);
+
+    /**
+     * Locks the oldest due entries, skipping entries locked by other workers.
+     * Entries that used up their attempts are dead letters and are never claimed.
+     * Must be followed by {@link #lease} in the same transaction.
+     *
+     * @param now the current time
+     * @param maxAttempts the number of attempts after which an entry is given up
+     * @param limit the maximum number of entries
+     * @return the claimed entries
+     */
+    @Query(value = """
+        SELECT * FROM storage_deletions
+        WHERE next_attempt_at <= :now AND attempts < :maxAttempts
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<StorageDeletion> lockDue(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    /**
+     * Leases claimed entries until a given time and counts the attempt.
+     * Entries still present when the lease expires are retried.
+     *
+     * @param ids the claimed entry ids
+     * @param leaseUntil the time the entries become due again
+     * @return number of entries updated
+     */
+    @Modifying
+    @Query("UPDATE StorageDeletion d SET d.nextAttemptAt = :leaseUntil, d.attempts = d.attempts + 1 WHERE d.id IN :ids")
+    int lease(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Records a failed attempt on entries and schedules their retry with exponential backoff:
+     * {@code baseSeconds * 2^(attempts - 1)}, capped at {@code maxSeconds}.
+     *
+     * @param ids the entry ids
+     * @param error the error message, truncated by the caller
+     * @param now the current time
+     * @param baseSeconds the delay after the first failed attempt
+     * @param maxSeconds the maximum delay
+     * @return number of entries updated
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE storage_deletions
+        SET last_error = :error,
+            next_attempt_at = CAST(:now AS timestamp)
+                + make_interval(secs => LEAST(:baseSeconds * power(2, GREATEST(attempts - 1, 0)), :maxSeconds))
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int recordFailure(@Param("ids") Collection<UUID> ids, @Param("error") String error, @Param("now") LocalDateTime now,
+                      @Param("baseSeconds") double baseSeconds, @Param("maxSeconds") double maxSeconds);
+
+    /**
+     * Counts entries that used up their attempts and are no longer retried.
+     *
+     * @param maxAttempts the number of attempts after which an entry is given up
+     * @return the number of dead-letter entries
+     */
+    @Query("SELECT COUNT(d) FROM StorageDeletion d WHERE d.attempts >= :maxAttempts")
+    long countDeadLetters(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Removes completed entries.
+     *
+     * @param ids the entry ids
+     * @return number of entries deleted
+     */
+    @Modifying
+    @Query("DELETE FROM StorageDeletion d WHERE d.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Filters object keys down to those still referenced by a listing picture or a user avatar.
+     * Used by the reconciliation sweep before queueing objects it found in a bucket.
+     * OPTIMIZED: One scan of the URL columns per batch of keys, joined on the extracted key.
+     *
+     * @param marker the public URL path preceding keys of the bucket, e.g. {@code /storage/v1/object/public/listings/}
+     * @param keys the object keys to check; must not be empty
+     * @return the keys that are referenced
+     */
+    @Query(value = """
+        SELECT k.object_key FROM unnest(CAST(:keys AS text[])) AS k(object_key)
+        WHERE k.object_key IN (
+            SELECT substring(refs.url FROM position(:marker IN refs.url) + length(:marker))
+            FROM (SELECT picture1_url AS url FROM listings
+                  UNION ALL SELECT picture2_url FROM listings
+                  UNION ALL SELECT avatar_url FROM users) refs
+            WHERE position(:marker IN refs.url) > 0)
+        """, nativeQuery = true)
+    List<String> findReferencedKeys(@Param("marker") String marker, @Param("keys") String[] keys);
+}
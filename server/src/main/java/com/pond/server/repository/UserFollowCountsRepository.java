@@ -0,0 +1,79 @@
+package com.pond.server.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.pond.server.model.UserFollowCounts;
+
+/**
+ * Repository interface for {@link UserFollowCounts} entity database operations.
+ * 
+ * <p>Counts are changed only through atomic delta updates so concurrent follows
+ * and unfollows never lose updates.</p>
+ * 
+ * @author Pond Team
+ * @see UserFollowCounts
+ */
+@Repository
+public interface UserFollowCountsRepository extends JpaRepository<UserFollowCounts, UUID> {
+
+    /**
+     * Decrements counts of everyone related to a user whose follows are about to be removed.
+     * Users the deleted user followed lose a follower; users following the deleted user lose a followee.
+     * Must run before the follows rows are deleted.
+     * 
+     * @param userGu UUID of the user being deleted
+     * @return number of rows affected
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_follow_counts c SET
+            follower_count = c.follower_count - CASE WHEN EXISTS (
+                SELECT 1 FROM follows f WHERE f.follower_gu = :userGu AND f.following_gu = c.user_gu) THEN 1 ELSE 0 END,
+            following_count = c.following_count - CASE WHEN EXISTS (
+                SELECT 1 FROM follows f WHERE f.following_gu = :userGu AND f.follower_gu = c.user_gu) THEN 1 ELSE 0 END
+        WHERE c.user_gu IN (
+            SELECT following_gu FROM follows WHERE follower_gu = :userGu
+            UNION
+            SELECT follower_gu FROM follows WHERE following_gu = :userGu)
+        """, nativeQuery = true)
+    int removeRelationsOf(@Param("userGu") UUID userGu);
+
+    /**
+     * Creates counts rows for every user in the follows table that does not have one yet.
+     * Used by the startup seed and the nightly rebuild, after the table is emptied under lock.
+     * 
+     * @return number of rows created
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_follow_counts (user_gu, follower_count, following_count)
+        SELECT user_gu, sum(followers), sum(following) FROM (
+            SELECT following_gu AS user_gu, 1 AS followers, 0 AS following FROM follows
+            UNION ALL
+            SELECT follower_gu, 0, 1 FROM follows) t
+        GROUP BY user_gu
+        ON CONFLICT (user_gu) DO NOTHING
+        """, nativeQuery = true)
+    int backfillMissing();
+
+    /**
+     * Locks the counts table against concurrent delta updates until the transaction ends.
+     * Used by the reconciliation rebuild so no follow change is lost or double counted.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE user_follow_counts IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * Removes every counts row. Used before a rebuild.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_follow_counts", nativeQuery = true)
+    void deleteAllCounts();
+}
@@ -1,10 +1,12 @@
 package com.pond.server.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -79,5 +81,66 @@ public interface UserFollowingRepository extends JpaRepository<UserFollowing, UU
      * @return true if the relationship exists, false otherwise
      */
     boolean existsByFollowerGUAndFollowingGU(UUID followerGU, UUID followingGU);
+    
+    /**
+     * Follows a user if they exist and are not already followed, and updates both users' counts.
+     * OPTIMIZED: One statement. The unique (follower_gu, following_gu) constraint does the dedup
+     * via ON CONFLICT DO NOTHING, so concurrent double-clicks cannot create duplicates or skew
+     * counts. Counts are only touched when a row was actually inserted, and the two counts rows
+     * are written in UUID order to keep lock order consistent across transactions.
+     * 
+     * @param followerGU UUID of the follower
+     * @param followingGU UUID of the user to follow
+     * @param followedAt timestamp of the follow
+     * @return 2 if the follow was created, 0 if it already existed or the user does not exist
+     */
+    @Modifying
+    @Query(value = """
+        WITH ins AS (
+            INSERT INTO follows (id, follower_gu, following_gu, followed_at)
+            SELECT gen_random_uuid(), :followerGU, :followingGU, :followedAt
+            WHERE EXISTS (SELECT 1 FROM users WHERE usergu = :followingGU)
+            ON CONFLICT (follower_gu, following_gu) DO NOTHING
+            RETURNING follower_gu, following_gu)
+        INSERT INTO user_follow_counts (user_gu, follower_count, following_count)
+        SELECT user_gu, followers, following FROM (
+            SELECT following_gu AS user_gu, 1 AS followers, 0 AS following FROM ins
+            UNION ALL
+            SELECT follower_gu, 0, 1 FROM ins) d
+        ORDER BY user_gu
+        ON CONFLICT (user_gu) DO UPDATE SET
+            follower_count = user_follow_counts.follower_count + EXCLUDED.follower_count,
+            following_count = user_follow_counts.following_count + EXCLUDED.following_count
+        """, nativeQuery = true)
+    int followIfAbsent(@Param("followerGU") UUID followerGU,
+                       @Param("followingGU") UUID followingGU,
+                       @Param("followedAt") LocalDateTime followedAt);
+    
+    /**
+     * Removes a follow relationship if present and updates both users' counts.
+     * OPTIMIZED: One statement; DELETE ... RETURNING feeds the count update, so counts
+     * only change when a row was actually removed.
+     * 
+     * @param followerGU UUID of the follower
+     * @param followingGU UUID of the user to unfollow
+     * @return 2 if the follow was removed, 0 if it did not exist
+     */
+    @Modifying
+    @Query(value = """
+        WITH del AS (
+            DELETE FROM follows
+            WHERE follower_gu = :followerGU AND following_gu = :followingGU
+            RETURNING follower_gu, following_gu)
+        INSERT INTO user_follow_counts (user_gu, follower_count, following_count)
+        SELECT user_gu, followers, following FROM (
+            SELECT following_gu AS user_gu, -1 AS followers, 0 AS following FROM del
+            UNION ALL
+            SELECT follower_gu, 0, -1 FROM del) d
+        ORDER BY user_gu
+        ON CONFLICT (user_gu) DO UPDATE SET
+            follower_count = user_follow_counts.follower_count + EXCLUDED.follower_count,
+            following_count = user_follow_counts.following_count + EXCLUDED.following_count
+        """, nativeQuery = true)
+    int unfollowIfPresent(@Param("followerGU") UUID followerGU,
+                          @Param("followingGU") UUID followingGU);
 }
-
@@ -0,0 +1,126 @@
+package com.pond.server.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.pond.server.model.UserRatingStats;
+
+/**
+ * Repository interface for {@link UserRatingStats} entity database operations.
+ * 
+ * <p>Aggregates are changed only through atomic delta upserts so concurrent
+ * review writes never lose updates.</p>
+ * 
+ * @author Pond Team
+ * @see UserRatingStats
+ */
+@Repository
+public interface UserRatingStatsRepository extends JpaRepository<UserRatingStats, UUID> {
+
+    /**
+     * Creates the aggregate row for a user from their existing reviews if it does not exist yet.
+     * Must be called before the review change is flushed, so the row reflects the state before the delta.
+     * 
+     * @param userGu UUID of the reviewed user
+     * @return 1 if a row was created, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_rating_stats (user_gu, review_count, rating_sum, stars1, stars2, stars3, stars4, stars5)
+        SELECT :userGu, count(*), coalesce(sum(rating), 0),
+               count(*) FILTER (WHERE rating = 1), count(*) FILTER (WHERE rating = 2),
+               count(*) FILTER (WHERE rating = 3), count(*) FILTER (WHERE rating = 4),
+               count(*) FILTER (WHERE rating = 5)
+        FROM reviews WHERE reviewee_gu = :userGu
+        ON CONFLICT (user_gu) DO NOTHING
+        """, nativeQuery = true)
+    int ensureExists(@Param("userGu") UUID userGu);
+
+    /**
+     * Atomically adds or removes one rating from a user's aggregate.
+     * 
+     * @param userGu UUID of the reviewed user
+     * @param rating the star rating (1-5) being added or removed
+     * @param sign +1 to add the rating, -1 to remove it
+     * @return number of rows affected
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_rating_stats SET
+            review_count = review_count + :sign,
+            rating_sum = rating_sum + :sign * :rating,
+            stars1 = stars1 + CASE WHEN :rating = 1 THEN :sign ELSE 0 END,
+            stars2 = stars2 + CASE WHEN :rating = 2 THEN :sign ELSE 0 END,
+            stars3 = stars3 + CASE WHEN :rating = 3 THEN :sign ELSE 0 END,
+            stars4 = stars4 + CASE WHEN :rating = 4 THEN :sign ELSE 0 END,
+            stars5 = stars5 + CASE WHEN :rating = 5 THEN :sign ELSE 0 END
+        WHERE user_gu = :userGu
+        """, nativeQuery = true)
+    int applyRating(@Param("userGu") UUID userGu, @Param("rating") int rating, @Param("sign") int sign);
+
+    /**
+     * Creates aggregate rows for every reviewed user that does not have one yet.
+     * Used by the startup seed and the nightly rebuild, after the table is emptied under lock.
+     * 
+     * @return number of rows created
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_rating_stats (user_gu, review_count, rating_sum, stars1, stars2, stars3, stars4, stars5)
+        SELECT reviewee_gu, count(*), sum(rating),
+               count(*) FILTER (WHERE rating = 1), count(*) FILTER (WHERE rating = 2),
+               count(*) FILTER (WHERE rating = 3), count(*) FILTER (WHERE rating = 4),
+               count(*) FILTER (WHERE rating = 5)
+        FROM reviews GROUP BY reviewee_gu
+        ON CONFLICT (user_gu) DO NOTHING
+        """, nativeQuery = true)
+    int backfillMissing();
+
+    /**
+     * Atomically removes every review written by a user from the aggregates of the users they reviewed.
+     * Must be called before the reviews are deleted, e.g. by the account deletion cascade.
+     * 
+     * @param reviewerGu UUID of the reviewer
+     * @return number of aggregate rows updated
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_rating_stats s SET
+            review_count = s.review_count - d.review_count,
+            rating_sum = s.rating_sum - d.rating_sum,
+            stars1 = s.stars1 - d.stars1,
+            stars2 = s.stars2 - d.stars2,
+            stars3 = s.stars3 - d.stars3,
+            stars4 = s.stars4 - d.stars4,
+            stars5 = s.stars5 - d.stars5
+        FROM (
+            SELECT reviewee_gu, count(*) AS review_count, sum(rating) AS rating_sum,
+                   count(*) FILTER (WHERE rating = 1) AS stars1, count(*) FILTER (WHERE rating = 2) AS stars2,
+                   count(*) FILTER (WHERE rating = 3) AS stars3, count(*) FILTER (WHERE rating = 4) AS stars4,
+                   count(*) FILTER (WHERE rating = 5) AS stars5
+            FROM reviews WHERE reviewer_gu = :reviewerGu GROUP BY reviewee_gu
+        ) d
+        WHERE s.user_gu = d.reviewee_gu
+        """, nativeQuery = true)
+    int removeReviewsBy(@Param("reviewerGu") UUID reviewerGu);
+
+    /**
+     * Locks the aggregates table against concurrent delta updates until the transaction ends.
+     * Used by the nightly rebuild so no review change is lost or double counted.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE user_rating_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * Removes every aggregate row. Used before a rebuild.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_rating_stats", nativeQuery = true)
+    void deleteAllStats();
+}
@@ -1,11 +1,16 @@
 package com.pond.server.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.pond.server.dto.SellerSummaryDTO;
 import com.pond.server.model.User;
 
 
@@ -52,5 +57,17 @@ public interface UserRepository extends CrudRepository<User, UUID>{
      * @return an Optional containing the user if found, empty otherwise
      */
     Optional<User> findByUsername(String username);
-}
 
+    /**
+     * Loads seller summaries (username, avatar and materialized rating) for several users at once.
+     * OPTIMIZED: One narrow projection joined with the rating aggregate, used to enrich listing
+     * cards that were materialized as entities (e.g. fuzzy search) without a query per seller.
+     * 
+     * @param userIds UUIDs of the sellers
+     * @return one summary per existing user
+     */
+    @Query("SELECT new com.pond.server.dto.SellerSummaryDTO(u.id, u.username, u.avatar_url, rs.reviewCount, rs.ratingSum) " +
+           "FROM User u LEFT JOIN UserRatingStats rs ON rs.userGu = u.id " +
+           "WHERE u.id IN :userIds")
+    List<SellerSummaryDTO> findSellerSummaries(@Param("userIds") Collection<UUID> userIds);
+}
@@ -19,17 +19,21 @@ import com.pond.server.repository.ListingRepository;
 import com.pond.server.repository.MessageRepository;
 import com.pond.server.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for managing chat rooms.
  * Handles chat room creation, retrieval, access verification, and room list generation.
  */
 @Service
+@Timed(value = "pond.service", histogram = true)
 public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ListingRepository listingRepository;
     private final UserRepository userRepository;
     private final MessageRepository messageRepository;
+    private final ReadReceiptBuffer readReceiptBuffer;
 
     /**
      * Constructs a new ChatRoomService with required dependencies.
@@ -38,16 +42,19 @@ public class ChatRoomService {
      * @param listingRepository the repository for listing data access
      * @param userRepository the repository for user data access
      * @param messageRepository the repository for message data access
+     * @param readReceiptBuffer the buffer coalescing mark-read events
      */
     public ChatRoomService(
             ChatRoomRepository chatRoomRepository,
             ListingRepository listingRepository,
             UserRepository userRepository,
-            MessageRepository messageRepository){
+            MessageRepository messageRepository,
+            ReadReceiptBuffer readReceiptBuffer){
         this.chatRoomRepository = chatRoomRepository;
         this.listingRepository = listingRepository;
         this.userRepository = userRepository;
         this.messageRepository = messageRepository;
+        this.readReceiptBuffer = readReceiptBuffer;
     }
 
     /**
@@ -205,8 +212,11 @@ public class ChatRoomService {
 
             String lastMessage = messages.isEmpty() ? "No messages yet" : messages.get(0).getContent();
 
-            // Get unread message count
-            long unreadCount = messageRepository.countUnreadMessages(room.getRoomId(), currentUserGU);
+            // Get unread message count, applying a buffered mark-read for the room
+            LocalDateTime readUntil = readReceiptBuffer.getWatermark(room.getRoomId(), currentUserGU);
+            long unreadCount = readUntil != null
+                    ? messageRepository.countUnreadMessagesAfter(room.getRoomId(), currentUserGU, readUntil)
+                    : messageRepository.countUnreadMessages(room.getRoomId(), currentUserGU);
 
             // Determine if current user is the seller
             boolean isSeller = room.getSellerGU().equals(currentUserGU);
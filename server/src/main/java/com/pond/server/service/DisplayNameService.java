@@ -0,0 +1,147 @@
+package com.pond.server.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.pond.server.repository.ReportRepository;
+
+/**
+ * Service for resolving display names (usernames and listing titles) by id.
+ * Backed by a shared {@link LookupCache}; cache misses are resolved with a single
+ * narrow projection query, so any batch costs at most one database round trip.
+ */
+@Service
+public class DisplayNameService {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // Padding for an empty IN list, which Postgres does not accept
+    private static final UUID NIL_UUID = new UUID(0L, 0L);
+
+    private final ReportRepository reportRepository;
+    private final LookupCache<UUID, String> usernames = new LookupCache<>(MAX_ENTRIES, TTL);
+    private final LookupCache<UUID, String> listingTitles = new LookupCache<>(MAX_ENTRIES, TTL);
+
+    /**
+     * Constructs a new DisplayNameService with required dependencies.
+     *
+     * @param reportRepository the repository providing the display name projection query
+     */
+    public DisplayNameService(ReportRepository reportRepository) {
+        this.reportRepository = reportRepository;
+    }
+
+    /**
+     * Resolves usernames and listing titles for the given ids.
+     * Ids that do not exist (deleted users or listings) are absent from the result.
+     *
+     * @param userIds UUIDs of users to resolve
+     * @param listingIds UUIDs of listings to resolve
+     * @return the resolved display names
+     */
+    @Transactional(readOnly = true)
+    public DisplayNames resolve(Collection<UUID> userIds, Collection<UUID> listingIds) {
+        Set<UUID> wantedUsers = new HashSet<>(userIds);
+        Set<UUID> wantedListings = new HashSet<>(listingIds);
+
+        Map<UUID, String> userNames = new HashMap<>(usernames.getAll(wantedUsers));
+        Map<UUID, String> titles = new HashMap<>(listingTitles.getAll(wantedListings));
+
+        List<UUID> missingUsers = new ArrayList<>();
+        for (UUID id : wantedUsers) {
+            if (!userNames.containsKey(id)) missingUsers.add(id);
+        }
+        List<UUID> missingListings = new ArrayList<>();
+        for (UUID id : wantedListings) {
+            if (!titles.containsKey(id)) missingListings.add(id);
+        }
+
+        if (missingUsers.isEmpty() && missingListings.isEmpty()) {
+            return new DisplayNames(userNames, titles);
+        }
+
+        if (missingUsers.isEmpty()) missingUsers.add(NIL_UUID);
+        if (missingListings.isEmpty()) missingListings.add(NIL_UUID);
+
+        Map<UUID, String> loadedUsers = new HashMap<>();
+        Map<UUID, String> loadedTitles = new HashMap<>();
+        for (Object[] row : reportRepository.findDisplayNames(missingUsers, missingListings)) {
+            UUID id = row[1] instanceof UUID uuid ? uuid : UUID.fromString(row[1].toString());
+            // Listings may have a null title; cache an empty string so the miss is not repeated
+            String name = row[2] != null ? row[2].toString() : "";
+            if ("U".equals(row[0].toString())) {
+                loadedUsers.put(id, name);
+            } else {
+                loadedTitles.put(id, name);
+            }
+        }
+        usernames.putAll(loadedUsers);
+        listingTitles.putAll(loadedTitles);
+        userNames.putAll(loadedUsers);
+        titles.putAll(loadedTitles);
+
+        return new DisplayNames(userNames, titles);
+    }
+
+    /**
+     * Evicts a cached username. Call after a username change or account deletion.
+     * Inside a transaction the eviction is repeated after commit, so a concurrent
+     * lookup cannot re-cache the old name until the TTL expires.
+     *
+     * @param userId the UUID of the user
+     */
+    public void evictUser(UUID userId) {
+        evictNowAndAfterCommit(usernames, userId);
+    }
+
+    /**
+     * Evicts a cached listing title. Call after a title change or listing deletion.
+     * Inside a transaction the eviction is repeated after commit, as for {@link #evictUser(UUID)}.
+     *
+     * @param listingId the UUID of the listing
+     */
+    public void evictListing(UUID listingId) {
+        evictNowAndAfterCommit(listingTitles, listingId);
+    }
+
+    /**
+     * Invalidates a key immediately and, if a transaction is active, once more after it commits.
+     *
+     * @param cache the cache to evict from
+     * @param id the key to evict
+     */
+    private static void evictNowAndAfterCommit(LookupCache<UUID, String> cache, UUID id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Record holding resolved display names.
+     *
+     * @param usernames map of user UUID to username
+     * @param listingTitles map of listing UUID to title
+     */
+    public record DisplayNames(Map<UUID, String> usernames, Map<UUID, String> listingTitles) {
+        public static final DisplayNames EMPTY = new DisplayNames(Map.of(), Map.of());
+    }
+}
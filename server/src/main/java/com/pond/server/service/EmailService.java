@@ -1,6 +1,6 @@
 package com.pond.server.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -10,17 +10,29 @@ import jakarta.mail.internet.MimeMessage;
 
 /**
  * Service class for sending email notifications.
- * Currently handles verification emails for new user registrations.
+ * Handles verification emails for new user registrations.
+ * Templates are compiled once at startup, see {@link EmailTemplate}.
  */
 @Service
 public class EmailService {
 
-    @Autowired
-    private JavaMailSender emailSender;
+    private final JavaMailSender emailSender;
+    private final EmailTemplate verificationTemplate;
+
+    /**
+     * Constructs a new EmailService and compiles the email templates.
+     *
+     * @param emailSender the mail sender used for SMTP delivery
+     */
+    public EmailService(JavaMailSender emailSender) {
+        this.emailSender = emailSender;
+        this.verificationTemplate = EmailTemplate.load("templates/email/verification.html", "verificationCode");
+    }
 
     /**
      * Sends a verification email with a 6-digit code to a new user.
      * The email is formatted with HTML and includes branding.
+     * Sent synchronously so signup fails fast if the address is rejected.
      *
      * @param to the recipient's email address
      * @param verificationCode the 6-digit verification code
@@ -28,59 +40,37 @@ public class EmailService {
      */
     public void sendVerificationEmail(String to, String verificationCode) {
         try {
-            MimeMessage message = emailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-            helper.setTo(to);
-            helper.setSubject("Verify Your Pond Account");
-            
-            String htmlContent = buildVerificationEmailHtml(verificationCode);
-            helper.setText(htmlContent, true);
-
-            emailSender.send(message);
-        } catch (MessagingException e) {
+            emailSender.send(createMessage(new OutgoingEmail(to, "Verify Your Pond Account",
+                    verificationTemplate.render(verificationCode))));
+        } catch (MessagingException | MailException e) {
             throw new RuntimeException("Failed to send verification email", e);
         }
     }
 
     /**
-     * Builds the HTML content for a verification email.
-     * Includes styling and formatting for a professional appearance.
+     * Builds a single-part HTML MIME message.
+     * No attachments are used, so the message is not multipart.
      *
-     * @param verificationCode the 6-digit verification code to include
-     * @return the formatted HTML email content
+     * @param email the email contents
+     * @return the MIME message ready to send
+     * @throws MessagingException if the message headers are invalid
      */
-    private String buildVerificationEmailHtml(String verificationCode) {
-        return """
-            <!DOCTYPE html>
-            <html>
-            <head>
-                <style>
-                    body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }
-                    .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                    .header { background-color: #18453B; color: white; padding: 20px; text-align: center; border-radius: 5px 5px 0 0; }
-                    .content { background-color: #f9f9f9; padding: 30px; border-radius: 0 0 5px 5px; }
-                    .code { font-size: 32px; font-weight: bold; color: #18453B; text-align: center; padding: 20px; background-color: white; border-radius: 5px; letter-spacing: 5px; }
-                    .footer { text-align: center; margin-top: 20px; font-size: 12px; color: #666; }
-                </style>
-            </head>
-            <body>
-                <div class="container">
-                    <div class="header">
-                        <h1>Welcome to Pond!</h1>
-                    </div>
-                    <div class="content">
-                        <p>Thank you for signing up! Please use the verification code below to verify your email address:</p>
-                        <div class="code">%s</div>
-                        <p>This code will expire in 15 minutes.</p>
-                        <p>If you didn't create an account with Pond, please ignore this email.</p>
-                    </div>
-                    <div class="footer">
-                        <p>© 2025 Pond - University of Oregon</p>
-                    </div>
-                </div>
-            </body>
-            </html>
-            """.formatted(verificationCode);
+    private MimeMessage createMessage(OutgoingEmail email) throws MessagingException {
+        MimeMessage message = emailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.html(), true);
+        return message;
     }
+
+    /**
+     * Record representing a rendered email waiting to be sent.
+     *
+     * @param to the recipient's email address
+     * @param subject the subject line
+     * @param html the rendered HTML body
+     */
+    public record OutgoingEmail(String to, String subject, String html) {}
+
 }
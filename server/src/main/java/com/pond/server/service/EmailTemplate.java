@@ -0,0 +1,128 @@
+package com.pond.server.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Pre-compiled HTML email template.
+ *
+ * <p>The template source is scanned once for {@code {{name}}} placeholders and split into
+ * literal segments and slot indexes. Rendering only appends those segments to a presized
+ * StringBuilder, so there is no regex or format-string parsing per email.</p>
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] parameterNames;
+    // segments[i] is emitted before slots[i]; the last segment trails the final slot
+    private final String[] segments;
+    private final int[] slots;
+    private final int literalLength;
+
+    private EmailTemplate(String[] parameterNames, String[] segments, int[] slots) {
+        this.parameterNames = parameterNames;
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Loads and compiles a template from the classpath.
+     *
+     * @param path the classpath location of the template
+     * @param parameterNames the placeholder names, in the order values are passed to {@link #render}
+     * @return the compiled template
+     * @throws IllegalStateException if the template cannot be read or is malformed
+     */
+    public static EmailTemplate load(String path, String... parameterNames) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8), parameterNames);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load email template " + path, e);
+        }
+    }
+
+    /**
+     * Compiles template source into segment and slot arrays.
+     *
+     * @param source the template text containing {@code {{name}}} placeholders
+     * @param parameterNames the placeholder names, in the order values are passed to {@link #render}
+     * @return the compiled template
+     * @throws IllegalStateException if a placeholder is unterminated or not declared
+     */
+    public static EmailTemplate compile(String source, String... parameterNames) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, pos);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalStateException("Unterminated placeholder at offset " + open);
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            segments.add(source.substring(pos, open));
+            slots.add(indexOf(parameterNames, name));
+            pos = close + CLOSE.length();
+        }
+        segments.add(source.substring(pos));
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new EmailTemplate(parameterNames.clone(), segments.toArray(new String[0]), slotArray);
+    }
+
+    /**
+     * Renders the template with the given values.
+     *
+     * @param values placeholder values in the order the parameter names were declared
+     * @return the rendered text
+     * @throws IllegalArgumentException if the number of values does not match the parameters
+     */
+    public String render(String... values) {
+        if (values.length != parameterNames.length) {
+            throw new IllegalArgumentException("Expected " + parameterNames.length + " template values but got " + values.length);
+        }
+        int capacity = literalLength;
+        for (int slot : slots) {
+            capacity += values[slot] != null ? values[slot].length() : 0;
+        }
+
+        StringBuilder sb = new StringBuilder(capacity);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(segments[i]);
+            String value = values[slots[i]];
+            if (value != null) {
+                sb.append(value);
+            }
+        }
+        sb.append(segments[segments.length - 1]);
+        return sb.toString();
+    }
+
+    private static int indexOf(String[] parameterNames, String name) {
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Undeclared template placeholder: " + name);
+    }
+}
@@ -15,11 +15,14 @@ import javax.imageio.ImageWriter;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for image processing operations.
  * Handles image resizing, compression, and conversion to JPEG format.
  */
 @Service
+@Timed(value = "pond.service", histogram = true)
 public class ImageService {
 
     /**
@@ -1,20 +1,28 @@
 package com.pond.server.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.pond.server.dto.CreateListingRequest;
+import com.pond.server.dto.ListingCardDTO;
 import com.pond.server.dto.ListingDTO;
 import com.pond.server.dto.ListingDetailDTO;
 import com.pond.server.dto.ScoredListing;
+import com.pond.server.dto.SellerSummaryDTO;
 import com.pond.server.dto.UpdateListingRequest;
 import com.pond.server.model.Listing;
 import com.pond.server.model.User;
@@ -24,12 +32,20 @@ import com.pond.server.repository.ResolvedReportRepository;
 import com.pond.server.repository.UserFollowingRepository;
 import com.pond.server.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for managing marketplace listings.
  * Handles CRUD operations, image management, filtering, search, and sold status tracking.
  */
 @Service
+@Timed(value = "pond.service", histogram = true)
 public class ListingService {
+    private static final Logger logger = LoggerFactory.getLogger(ListingService.class);
+
+    // Listings per set-based delete statement, keeping IN lists well below the bind parameter limit
+    private static final int DELETE_CHUNK = 1000;
+
     private final ListingRepository listingRepository;
     private final ImageService imageService;
     private final SupabaseStorage supabaseStorage;
@@ -37,6 +53,9 @@ public class ListingService {
     private final UserFollowingRepository userFollowingRepository;
     private final ReportRepository reportRepository;
     private final ResolvedReportRepository resolvedReportRepository;
+    private final DisplayNameService displayNameService;
+    private final ReportStatisticsService reportStatisticsService;
+    private final StorageCleanupService storageCleanupService;
     
     @Value("${supabase.listing-bucket}")
     private String listingBucket;
@@ -51,6 +70,9 @@ public class ListingService {
      * @param userFollowingRepository the repository for user following relationships
      * @param reportRepository the repository for report data access
      * @param resolvedReportRepository the repository for resolved report data access
+     * @param displayNameService the service caching listing titles for report enrichment
+     * @param reportStatisticsService the service maintaining report counters
+     * @param storageCleanupService the service removing storage objects asynchronously
      */
     public ListingService(ListingRepository listingRepository,
                           ImageService imageService,
@@ -58,7 +80,10 @@ public class ListingService {
                           UserRepository userRepository,
                           UserFollowingRepository userFollowingRepository,
                           ReportRepository reportRepository,
-                          ResolvedReportRepository resolvedReportRepository) {
+                          ResolvedReportRepository resolvedReportRepository,
+                          DisplayNameService displayNameService,
+                          ReportStatisticsService reportStatisticsService,
+                          StorageCleanupService storageCleanupService) {
         this.listingRepository = listingRepository;
         this.imageService = imageService;
         this.supabaseStorage = supabaseStorage;
@@ -66,6 +91,9 @@ public class ListingService {
         this.userFollowingRepository = userFollowingRepository;
         this.reportRepository = reportRepository;
         this.resolvedReportRepository = resolvedReportRepository;
+        this.displayNameService = displayNameService;
+        this.reportStatisticsService = reportStatisticsService;
+        this.storageCleanupService = storageCleanupService;
     }
 
     /**
@@ -197,10 +225,10 @@ public class ListingService {
      * @param sortBy field to sort by ("date" or "price", defaults to "date")
      * @param sortOrder sort order ("asc" or "desc", defaults to "desc")
      * @param searchQuery fuzzy search query for listing titles (null/empty for no search)
-     * @return a list of filtered and sorted listings (limited to 500 results)
+     * @return a list of filtered and sorted listing cards (limited to 500 results)
      */
     @Transactional(readOnly = true)
-    public List<ListingDTO> getFiltered(List<String> categories, Double minPrice, Double maxPrice, String sortBy, String sortOrder, String searchQuery) {
+    public List<ListingCardDTO> getFiltered(List<String> categories, Double minPrice, Double maxPrice, String sortBy, String sortOrder, String searchQuery) {
         // Default sort parameters if not provided
         String effectiveSortBy = (sortBy == null || sortBy.isEmpty()) ? "date" : sortBy;
         String effectiveSortOrder = (sortOrder == null || sortOrder.isEmpty()) ? "desc" : sortOrder;
@@ -217,8 +245,8 @@ public class ListingService {
             return applyFuzzySearch(listings, effectiveSearchQuery, effectiveSortBy, effectiveSortOrder);
         }
         
-        // No search query: directly return DTO projection (avoids entity materialization and mapping)
-        return listingRepository.findFilteredDTOWithLimit(
+        // No search query: directly return card projection (avoids entity materialization and mapping)
+        return listingRepository.findFilteredCardsWithLimit(
             effectiveCategories, minPrice, maxPrice, effectiveSortBy, effectiveSortOrder,
             PageRequest.of(0, 500)
         );
@@ -236,10 +264,10 @@ public class ListingService {
      * @param searchQuery fuzzy search query for listing titles (null/empty for no search)
      * @param page the page number (zero-based)
      * @param size the page size
-     * @return a page of filtered and sorted listings
+     * @return a page of filtered and sorted listing cards
      */
     @Transactional(readOnly = true)
-    public List<ListingDTO> getFilteredPaged(List<String> categories, Double minPrice, Double maxPrice, String sortBy, String sortOrder, String searchQuery, int page, int size) {
+    public List<ListingCardDTO> getFilteredPaged(List<String> categories, Double minPrice, Double maxPrice, String sortBy, String sortOrder, String searchQuery, int page, int size) {
         String effectiveSortBy = (sortBy == null || sortBy.isEmpty()) ? "date" : sortBy;
         String effectiveSortOrder = (sortOrder == null || sortOrder.isEmpty()) ? "desc" : sortOrder;
         List<String> effectiveCategories = (categories != null && !categories.isEmpty()) ? categories : null;
@@ -254,7 +282,7 @@ public class ListingService {
             return applyFuzzySearch(listings, effectiveSearchQuery, effectiveSortBy, effectiveSortOrder);
         }
 
-        return listingRepository.findFilteredDTOWithLimit(
+        return listingRepository.findFilteredCardsWithLimit(
             effectiveCategories, minPrice, maxPrice, effectiveSortBy, effectiveSortOrder,
             PageRequest.of(page, size)
         );
@@ -268,9 +296,30 @@ public class ListingService {
      * @param searchQuery the search query (already lowercase and trimmed)
      * @param sortBy field to sort by after filtering ("date" or "price")
      * @param sortOrder sort order after filtering ("asc" or "desc")
-     * @return a list of listings matching the search query, sorted as specified
+     * @return a list of listing cards matching the search query, sorted as specified
      */
-    private List<ListingDTO> applyFuzzySearch(List<Listing> listings, String searchQuery, String sortBy, String sortOrder) {
+    private List<ListingCardDTO> applyFuzzySearch(List<Listing> listings, String searchQuery, String sortBy, String sortOrder) {
+        List<Listing> filteredListings = rankByTitleSimilarity(listings, searchQuery, sortBy, sortOrder);
+
+        // Convert to cards, enriched with seller summaries loaded in one batch
+        Map<UUID, SellerSummaryDTO> sellers = loadSellerSummaries(filteredListings);
+        return filteredListings.stream()
+                .map(listing -> toCardDto(listing, sellers.get(listing.getUserGU())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Scores listings by title similarity to the search query, drops those below the
+     * 50% threshold and sorts the rest. Pure CPU work with no database access, kept
+     * package-private so the benchmark suite can measure it in isolation.
+     *
+     * @param listings the list of listings to search through
+     * @param searchQuery the search query (already lowercase and trimmed)
+     * @param sortBy field to sort by after filtering ("date" or "price")
+     * @param sortOrder sort order after filtering ("asc" or "desc")
+     * @return the matching listings, sorted as specified
+     */
+    static List<Listing> rankByTitleSimilarity(List<Listing> listings, String searchQuery, String sortBy, String sortOrder) {
         //Calculator that calculates the similarity between two strings by the number of character replacements required to make the strings the same
         LevenshteinDistance levenshtein = new LevenshteinDistance();
         
@@ -322,11 +371,23 @@ public class ListingService {
         // Apply user's requested sort order
         Comparator<Listing> comparator = getComparator(sortBy, sortOrder);
         filteredListings.sort(comparator);
-        
-        // Convert to DTOs
-        return filteredListings.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return filteredListings;
+    }
+
+    /**
+     * Loads seller summaries for the sellers of the given listings.
+     * OPTIMIZED: One query for all distinct sellers instead of a lookup per listing.
+     *
+     * @param listings the listings whose sellers to load
+     * @return map of seller UUID to seller summary
+     */
+    private Map<UUID, SellerSummaryDTO> loadSellerSummaries(List<Listing> listings) {
+        if (listings.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> sellerIds = listings.stream().map(Listing::getUserGU).collect(Collectors.toSet());
+        return userRepository.findSellerSummaries(sellerIds).stream()
+                .collect(Collectors.toMap(SellerSummaryDTO::getUserGU, seller -> seller));
     }
     
     /**
@@ -336,7 +397,7 @@ public class ListingService {
      * @param sortOrder sort order ("asc" for ascending, anything else for descending)
      * @return a comparator for sorting Listing objects
      */
-    private Comparator<Listing> getComparator(String sortBy, String sortOrder) {
+    private static Comparator<Listing> getComparator(String sortBy, String sortOrder) {
         boolean ascending = "asc".equalsIgnoreCase(sortOrder);
         
         Comparator<Listing> comparator;
@@ -383,10 +444,10 @@ public class ListingService {
      * @param sortBy field to sort by ("date" or "price", defaults to "date")
      * @param sortOrder sort order ("asc" or "desc", defaults to "desc")
      * @param searchQuery fuzzy search query for listing titles (null/empty for no search)
-     * @return a list of listings from followed users (limited to 500 results)
+     * @return a list of listing cards from followed users (limited to 500 results)
      */
     @Transactional(readOnly = true)
-    public List<ListingDTO> getFollowingListings(User currentUser, List<String> categories, 
+    public List<ListingCardDTO> getFollowingListings(User currentUser, List<String> categories, 
                                                   Double minPrice, Double maxPrice, 
                                                   String sortBy, String sortOrder, String searchQuery) {
         // Get list of users that current user follows
@@ -424,8 +485,8 @@ public class ListingService {
             return applyFuzzySearch(filteredListings, effectiveSearchQuery, effectiveSortBy, effectiveSortOrder);
         }
         
-        // No search query: use DTO projection with limit
-        return listingRepository.findFollowingFilteredDTOWithLimit(
+        // No search query: use card projection with limit
+        return listingRepository.findFollowingFilteredCardsWithLimit(
             followingUserIds,
             effectiveCategories,
             minPrice,
@@ -449,10 +510,10 @@ public class ListingService {
      * @param searchQuery fuzzy search query for listing titles (null/empty for no search)
      * @param page the page number (zero-based)
      * @param size the page size
-     * @return a page of listings from followed users
+     * @return a page of listing cards from followed users
      */
     @Transactional(readOnly = true)
-    public List<ListingDTO> getFollowingListingsPaged(User currentUser, List<String> categories,
+    public List<ListingCardDTO> getFollowingListingsPaged(User currentUser, List<String> categories,
                                                       Double minPrice, Double maxPrice,
                                                       String sortBy, String sortOrder, String searchQuery,
                                                       int page, int size) {
@@ -481,7 +542,7 @@ public class ListingService {
             return applyFuzzySearch(filteredListings, effectiveSearchQuery, effectiveSortBy, effectiveSortOrder);
         }
 
-        return listingRepository.findFollowingFilteredDTOWithLimit(
+        return listingRepository.findFollowingFilteredCardsWithLimit(
             followingUserIds,
             effectiveCategories,
             minPrice,
@@ -519,7 +580,10 @@ public class ListingService {
                 if (req.getDescription() != null) l.setDescription(req.getDescription());
                 if (req.getPrice() != null) l.setPrice(req.getPrice());
                 if (req.getCondition() != null) l.setCondition(req.getCondition());
-                if (req.getTitle() != null) l.setTitle(req.getTitle());
+                if (req.getTitle() != null) {
+                    l.setTitle(req.getTitle());
+                    displayNameService.evictListing(l.getListingGU());
+                }
                 if (req.getCategory() != null) l.setCategory(req.getCategory());
                 
                 // Handle picture1: only treat as base64 if it's a Data URL
@@ -571,7 +635,7 @@ public class ListingService {
     /**
      * Deletes a listing and all associated data.
      * Admins can delete any listing, regular users can only delete their own.
-     * Deletes listing images from storage and associated reports from database.
+     * Deletes associated reports from database and queues listing images for removal from storage.
      *
      * @param id the UUID of the listing to delete
      * @param currentUser the user performing the deletion
@@ -580,64 +644,105 @@ public class ListingService {
     @Transactional
     public void delete(UUID id, User currentUser) {
         // Admins can delete any listing, regular users can only delete their own
-        Listing l;
+        List<Object[]> rows;
         if (currentUser.getAdmin()) {
-            l = listingRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Listing not found"));
+            rows = listingRepository.findImageUrlsByListingGUIn(List.of(id));
+            if (rows.isEmpty()) throw new RuntimeException("Listing not found");
         } else {
-            l = listingRepository.findByListingGUAndUserGU(id, currentUser.getUserGU())
-                    .orElseThrow(() -> new RuntimeException("Listing not found or not owned by user"));
+            rows = listingRepository.findImageUrlsByListingGUInAndUserGU(List.of(id), currentUser.getUserGU());
+            if (rows.isEmpty()) throw new RuntimeException("Listing not found or not owned by user");
         }
         
-        System.out.println("Deleting listing: " + id);
-        System.out.println("Picture 1 URL: " + l.getPicture1_url());
-        System.out.println("Picture 2 URL: " + l.getPicture2_url());
-        
-        // Delete reports and resolved reports before deleting listing
-        // (This will be handled by CASCADE DELETE after migration, but keeping it for safety)
-        reportRepository.findByListingGU(id).forEach(report -> reportRepository.delete(report));
-        resolvedReportRepository.findByListingGU(id).forEach(resolvedReport -> resolvedReportRepository.delete(resolvedReport));
-        
-        deleteListingImage(l.getPicture1_url());
-        deleteListingImage(l.getPicture2_url());
-        listingRepository.delete(l);
-        System.out.println("Successfully deleted listing: " + id);
+        deleteListingRows(rows);
+        logger.info("Deleted listing {}", id);
     }
 
     /**
-     * Deletes a listing image from Supabase storage.
-     * Extracts the storage key from the URL and performs deletion.
-     * Logs warnings/errors but does not throw exceptions.
+     * Deletes many listings at once, e.g. for a moderation sweep.
+     * Admins can delete any listing, regular users only their own; other ids are skipped.
+     * OPTIMIZED: Set-based statements per chunk of listings; images are removed afterwards
+     * by the background cleanup worker.
+     *
+     * @param ids the UUIDs of the listings to delete
+     * @param currentUser the user performing the deletion
+     * @return the number of listings deleted
+     */
+    @Transactional
+    public int deleteMany(Collection<UUID> ids, User currentUser) {
+        List<UUID> distinct = ids.stream().distinct().toList();
+        List<Object[]> rows = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += DELETE_CHUNK) {
+            List<UUID> chunk = distinct.subList(from, Math.min(distinct.size(), from + DELETE_CHUNK));
+            rows.addAll(currentUser.getAdmin()
+                ? listingRepository.findImageUrlsByListingGUIn(chunk)
+                : listingRepository.findImageUrlsByListingGUInAndUserGU(chunk, currentUser.getUserGU()));
+        }
+        int deleted = deleteListingRows(rows);
+        logger.info("User {} deleted {} of {} requested listings", currentUser.getUserGU(), deleted, distinct.size());
+        return deleted;
+    }
+
+    /**
+     * Deletes every listing owned by a user, with their reports, and queues their images for removal.
+     * OPTIMIZED: Set-based statements per chunk of listings instead of loading and deleting each
+     * listing and report; images are removed by the background cleanup worker in bulk requests.
+     *
+     * @param userGU the UUID of the owner
+     * @return the number of listings deleted
+     */
+    @Transactional
+    public int deleteAllOwnedBy(UUID userGU) {
+        int deleted = deleteListingRows(listingRepository.findImageUrlsByUserGU(userGU));
+        if (deleted > 0) {
+            logger.info("Deleted {} listings of user {}", deleted, userGU);
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes listings with their active and archived reports, adjusts the report counters,
+     * and queues the listing images for removal.
+     *
+     * @param rows one row per listing: {listingGU, picture1_url, picture2_url}
+     * @return the number of listings deleted
+     */
+    private int deleteListingRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<String> imageUrls = new ArrayList<>(rows.size() * 2);
+        for (int from = 0; from < rows.size(); from += DELETE_CHUNK) {
+            List<Object[]> chunk = rows.subList(from, Math.min(rows.size(), from + DELETE_CHUNK));
+            List<UUID> listingGUs = new ArrayList<>(chunk.size());
+            for (Object[] row : chunk) {
+                listingGUs.add((UUID) row[0]);
+                imageUrls.add((String) row[1]);
+                imageUrls.add((String) row[2]);
+            }
+            // Counters are adjusted while the reports still exist
+            reportStatisticsService.recordDeletedForListings(listingGUs);
+            reportRepository.deleteByListingGUIn(listingGUs);
+            resolvedReportRepository.deleteByListingGUIn(listingGUs);
+            listingRepository.deleteByListingGUIn(listingGUs);
+            listingGUs.forEach(displayNameService::evictListing);
+        }
+        storageCleanupService.enqueueUrls(listingBucket, imageUrls);
+        return rows.size();
+    }
+
+    /**
+     * Queues a listing image for removal from Supabase storage.
+     * The image is removed by the background cleanup worker once the current transaction
+     * commits, so edits no longer wait on a storage round-trip and a failed removal is retried.
      *
      * @param url the full URL of the image to delete
      */
     private void deleteListingImage(String url){
         if (url == null || url.isBlank()) {
-            System.out.println("No image to delete (URL is null or blank)");
             return;
         }
-
-        System.out.println("Attempting to delete listing image: " + url);
-        
-        String marker = "/storage/v1/object/public/" + listingBucket + "/";
-        int idx = url.indexOf(marker);
-        if (idx >= 0){
-            String key = url.substring(idx + marker.length());
-            System.out.println("Extracted listing image key: " + key + " from bucket: " + listingBucket);
-            try {
-                supabaseStorage.deleteObject(listingBucket, key);
-                System.out.println("Successfully deleted listing image from storage");
-            } catch (Exception e) {
-                System.err.println("ERROR: Failed to delete listing image " + url);
-                System.err.println("Key: " + key);
-                System.err.println("Bucket: " + listingBucket);
-                System.err.println("Exception: " + e.getMessage());
-                e.printStackTrace();
-            }
-        } else {
-            System.err.println("WARNING: Could not extract key from listing image URL: " + url);
-            System.err.println("Expected marker: " + marker);
-        }
+        storageCleanupService.enqueueUrls(listingBucket, List.of(url));
     }
 
     /**
@@ -669,6 +774,27 @@ public class ListingService {
         return toDto(l);
     }
     
+    /**
+     * Converts a Listing entity to a feed card with the given seller summary.
+     *
+     * @param l the listing entity
+     * @param seller the seller summary, or null if unavailable
+     * @return the listing card
+     */
+    private ListingCardDTO toCardDto(Listing l, SellerSummaryDTO seller) {
+        return new ListingCardDTO(
+            l.getListingGU(),
+            l.getUserGU(),
+            l.getTitle(),
+            l.getPrice(),
+            l.getCategory(),
+            l.getCondition(),
+            l.getPicture1_url(),
+            l.getCreatedAt(),
+            seller
+        );
+    }
+    
     /**
      * Converts a Listing entity to a ListingDTO.
      *
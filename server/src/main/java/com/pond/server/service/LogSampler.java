@@ -0,0 +1,48 @@
+package com.pond.server.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts events on a hot path and selects one in every {@code rate} for logging.
+ *
+ * <p>Per-event logs on paths such as chat sends and STOMP frames cost more than the work
+ * they describe under load. A sampler keeps a trickle of INFO lines (with the running count)
+ * so the path stays observable, while every event is still available at DEBUG.</p>
+ */
+public final class LogSampler {
+
+    private final long rate;
+    private final AtomicLong events = new AtomicLong();
+
+    /**
+     * Creates a new sampler.
+     *
+     * @param rate log one event in every {@code rate}; 1 logs every event
+     * @throws IllegalArgumentException if rate is less than 1
+     */
+    public LogSampler(long rate) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1");
+        }
+        this.rate = rate;
+    }
+
+    /**
+     * Records an event and reports whether it was selected for logging.
+     * The first event is always selected.
+     *
+     * @return true if this event should be logged
+     */
+    public boolean sample() {
+        return events.getAndIncrement() % rate == 0;
+    }
+
+    /**
+     * Gets the number of events recorded since startup.
+     *
+     * @return the event count
+     */
+    public long getCount() {
+        return events.get();
+    }
+}
@@ -0,0 +1,122 @@
+package com.pond.server.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small bounded in-memory cache for read-mostly lookups.
+ *
+ * <p>Entries are evicted least-recently-used once {@code maxEntries} is reached and expire
+ * after a fixed time-to-live, so stale values are bounded even if an invalidation is missed
+ * (for example when another instance performs the write). All operations are synchronized;
+ * the critical sections are a few map operations, which is cheap at the sizes used here.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class LookupCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxEntries the maximum number of entries kept
+     * @param ttl how long an entry stays valid after it is written
+     */
+    public LookupCache(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LookupCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for a key.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if absent or expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt - System.nanoTime() < 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns cached values for several keys in one pass.
+     * Keys that are absent or expired are simply left out of the result.
+     *
+     * @param keys the keys to look up
+     * @return map of key to cached value for every hit
+     */
+    public synchronized Map<K, V> getAll(Collection<K> keys) {
+        Map<K, V> hits = new HashMap<>();
+        long now = System.nanoTime();
+        for (K key : keys) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.expiresAt - now < 0) {
+                entries.remove(key);
+            } else {
+                hits.put(key, entry.value);
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Stores a value.
+     *
+     * @param key the key
+     * @param value the value, must not be null
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Stores several values with the same expiry.
+     *
+     * @param values map of key to value
+     */
+    public synchronized void putAll(Map<K, V> values) {
+        long expiresAt = System.nanoTime() + ttlNanos;
+        values.forEach((key, value) -> entries.put(key, new Entry<>(value, expiresAt)));
+    }
+
+    /**
+     * Removes a key so the next lookup goes to the database.
+     *
+     * @param key the key to invalidate
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
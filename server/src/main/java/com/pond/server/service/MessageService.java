@@ -2,6 +2,7 @@ package com.pond.server.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -15,25 +16,32 @@ import com.pond.server.model.Message;
 import com.pond.server.repository.ChatRoomRepository;
 import com.pond.server.repository.MessageRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for managing chat messages.
  * Handles message storage, retrieval, read status tracking, and message counts.
  */
 @Service
+@Timed(value = "pond.service", histogram = true)
 public class MessageService {
 
     private final MessageRepository messageRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ReadReceiptBuffer readReceiptBuffer;
 
     /**
      * Constructs a new MessageService with required dependencies.
      *
      * @param messageRepository the repository for message data access
      * @param chatRoomRepository the repository for chat room data access
+     * @param readReceiptBuffer the buffer coalescing mark-read events
      */
-    public MessageService(MessageRepository messageRepository, ChatRoomRepository chatRoomRepository) {
+    public MessageService(MessageRepository messageRepository, ChatRoomRepository chatRoomRepository,
+                          ReadReceiptBuffer readReceiptBuffer) {
         this.messageRepository = messageRepository;
         this.chatRoomRepository = chatRoomRepository;
+        this.readReceiptBuffer = readReceiptBuffer;
     }
 
     /**
@@ -93,17 +101,20 @@ public class MessageService {
     /**
      * Marks all unread messages in a chat room as read for a specific user.
      * Verifies user has access to the chat room before marking messages.
+     * OPTIMIZED: The mark-read is buffered and written in batches by {@link ReadReceiptBuffer};
+     * repeated calls for the same room coalesce and skip the access check while one is pending.
      *
      * @param roomId the ID of the chat room
      * @param userGU the UUID of the user marking messages as read
-     * @return the number of messages marked as read
      * @throws RuntimeException if user not authorized to access the chat room
      */
-    @Transactional
-    public int markRoomMessagesAsRead(String roomId, UUID userGU) {
-        // Verify user has access to this chat room
-        verifyChatRoomAccess(roomId, userGU);
-        return messageRepository.markRoomMessagesAsRead(roomId, userGU);
+    @Transactional(readOnly = true)
+    public void markRoomMessagesAsRead(String roomId, UUID userGU) {
+        // Verify user has access to this chat room; a pending pair was verified when it was buffered
+        if (!readReceiptBuffer.isPending(roomId, userGU)) {
+            verifyChatRoomAccess(roomId, userGU);
+        }
+        readReceiptBuffer.markRead(roomId, userGU);
     }
 
     /**
@@ -111,22 +122,32 @@ public class MessageService {
      *
      * @param roomId the ID of the chat room
      * @param userGU the UUID of the user
-     * @return the number of unread messages
+     * @return the number of unread messages, excluding messages covered by a buffered mark-read
      */
     @Transactional(readOnly = true)
     public long getUnreadMessageCount(String roomId, UUID userGU) {
-        return messageRepository.countUnreadMessages(roomId, userGU);
+        LocalDateTime readUntil = readReceiptBuffer.getWatermark(roomId, userGU);
+        return readUntil != null
+                ? messageRepository.countUnreadMessagesAfter(roomId, userGU, readUntil)
+                : messageRepository.countUnreadMessages(roomId, userGU);
     }
 
     /**
      * Gets the total count of unread messages across all chat rooms for a user.
      *
      * @param userGU the UUID of the user
-     * @return the total number of unread messages
+     * @return the total number of unread messages, excluding messages covered by buffered mark-reads
      */
     @Transactional(readOnly = true)
     public long getTotalUnreadCount(UUID userGU) {
-        return messageRepository.countUnreadMessagesByUser(userGU);
+        Map<String, LocalDateTime> watermarks = readReceiptBuffer.getWatermarks(userGU);
+        if (watermarks.isEmpty()) {
+            return messageRepository.countUnreadMessagesByUser(userGU);
+        }
+        List<Map.Entry<String, LocalDateTime>> entries = List.copyOf(watermarks.entrySet());
+        return messageRepository.countUnreadMessagesByUserExcept(userGU,
+                entries.stream().map(Map.Entry::getKey).toArray(String[]::new),
+                entries.stream().map(e -> e.getValue().toString()).toArray(String[]::new));
     }
 
     /**
@@ -0,0 +1,165 @@
+package com.pond.server.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pond.server.repository.MessageRepository;
+
+/**
+ * Service class buffering mark-read events and writing them in batches.
+ *
+ * <p>Clients mark a room as read every time it gains focus, so the same (room, reader) pair is
+ * marked many times per second. Events are coalesced in memory into one read watermark per pair,
+ * the time of the latest mark-read, and {@link #flush()} writes all pending watermarks with one
+ * UPDATE every few hundred milliseconds. Only messages sent up to the watermark are marked read,
+ * so a message arriving between the request and the flush stays unread.</p>
+ *
+ * <p>Unread counts answered by this instance apply pending watermarks immediately. Other instances
+ * see the receipt once it is flushed. Pending watermarks are flushed on shutdown.</p>
+ */
+@Service
+public class ReadReceiptBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReceiptBuffer.class);
+
+    // Pairs per UPDATE statement
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final MessageRepository messageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Reader -> room -> read watermark; updated per reader with compute() so rooms are never lost
+    private final Map<UUID, Map<String, LocalDateTime>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ReadReceiptBuffer with required dependencies.
+     *
+     * @param messageRepository the repository for message data access
+     * @param transactionTemplate the template used to write each batch in its own transaction
+     */
+    public ReadReceiptBuffer(MessageRepository messageRepository, TransactionTemplate transactionTemplate) {
+        this.messageRepository = messageRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Records that a user has read every message currently in a room.
+     * Access to the room must have been verified by the caller.
+     *
+     * @param roomId the ID of the chat room
+     * @param userGU the UUID of the reader
+     */
+    public void markRead(String roomId, UUID userGU) {
+        // Postgres stores microseconds; truncating keeps the watermark comparable with stored timestamps
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        pending.compute(userGU, (user, rooms) -> {
+            Map<String, LocalDateTime> updated = rooms != null ? rooms : new ConcurrentHashMap<>();
+            updated.merge(roomId, now, (previous, latest) -> latest.isAfter(previous) ? latest : previous);
+            return updated;
+        });
+    }
+
+    /**
+     * Checks whether a mark-read for a pair is waiting to be written.
+     *
+     * @param roomId the ID of the chat room
+     * @param userGU the UUID of the reader
+     * @return true if a watermark is pending
+     */
+    public boolean isPending(String roomId, UUID userGU) {
+        return getWatermark(roomId, userGU) != null;
+    }
+
+    /**
+     * Gets the pending read watermark of a pair.
+     *
+     * @param roomId the ID of the chat room
+     * @param userGU the UUID of the reader
+     * @return the watermark, or null if nothing is pending
+     */
+    public LocalDateTime getWatermark(String roomId, UUID userGU) {
+        Map<String, LocalDateTime> rooms = pending.get(userGU);
+        return rooms != null ? rooms.get(roomId) : null;
+    }
+
+    /**
+     * Gets all pending read watermarks of a user.
+     *
+     * @param userGU the UUID of the reader
+     * @return a snapshot of room ID to watermark; empty if nothing is pending
+     */
+    public Map<String, LocalDateTime> getWatermarks(UUID userGU) {
+        Map<String, LocalDateTime> rooms = pending.get(userGU);
+        return rooms != null ? Map.copyOf(rooms) : Map.of();
+    }
+
+    /**
+     * Scheduled task that writes pending watermarks in batches.
+     * A failed batch stays pending and is retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${pond.chat.read-receipt-flush-ms:300}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingReceipt> receipts = new ArrayList<>();
+        pending.forEach((userGU, rooms) ->
+            rooms.forEach((roomId, readUntil) -> receipts.add(new PendingReceipt(roomId, userGU, readUntil))));
+
+        for (int from = 0; from < receipts.size(); from += FLUSH_BATCH_SIZE) {
+            List<PendingReceipt> batch = receipts.subList(from, Math.min(receipts.size(), from + FLUSH_BATCH_SIZE));
+            try {
+                Integer marked = transactionTemplate.execute(status -> messageRepository.markRoomsReadUpTo(
+                    batch.stream().map(PendingReceipt::roomId).toArray(String[]::new),
+                    batch.stream().map(r -> r.userGU().toString()).toArray(String[]::new),
+                    batch.stream().map(r -> r.readUntil().toString()).toArray(String[]::new)));
+                batch.forEach(this::remove);
+                logger.debug("Flushed {} read receipts, {} messages marked read", batch.size(), marked);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to flush {} read receipts, will retry: {}", batch.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes pending watermarks before the application shuts down.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Removes a written watermark unless a newer mark-read replaced it meanwhile.
+     *
+     * @param receipt the written receipt
+     */
+    private void remove(PendingReceipt receipt) {
+        pending.computeIfPresent(receipt.userGU(), (user, rooms) -> {
+            rooms.remove(receipt.roomId(), receipt.readUntil());
+            return rooms.isEmpty() ? null : rooms;
+        });
+    }
+
+    /**
+     * Record representing one watermark taken from the buffer for writing.
+     *
+     * @param roomId the ID of the chat room
+     * @param userGU the UUID of the reader
+     * @param readUntil the read watermark
+     */
+    private record PendingReceipt(String roomId, UUID userGU, LocalDateTime readUntil) {}
+}
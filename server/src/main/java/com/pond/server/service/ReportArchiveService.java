@@ -1,15 +1,19 @@
 package com.pond.server.service;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.pond.server.enums.ReportStatus;
 import com.pond.server.model.Report;
@@ -20,112 +24,178 @@ import com.pond.server.repository.ResolvedReportRepository;
 /**
  * Service class for automatically archiving resolved reports.
  * Runs scheduled tasks to move resolved reports older than 24 hours to an archive table.
- * Also runs on application startup to catch up on any missed archiving.
+ * Also runs on application startup, off the readiness critical path, to catch up on any missed archiving.
  */
 @Service
 public class ReportArchiveService {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(ReportArchiveService.class);
-    
+
+    // Postgres advisory lock key shared by every instance running the archiver
+    private static final long ARCHIVE_LOCK_KEY = 0x706F6E6441524348L;
+
+    // Log progress every this many chunks during long passes
+    private static final int PROGRESS_LOG_INTERVAL = 10;
+
     private final ReportRepository reportRepository;
     private final ResolvedReportRepository resolvedReportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReportStatisticsService reportStatisticsService;
+
+    // Maximum number of reports moved per chunk/transaction
+    @Value("${pond.reports.archive-batch-size:500}")
+    private int batchSize;
+
+    // Progress tracking for the admin dashboard and Prometheus (see MetricsConfiguration)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong totalArchived = new AtomicLong();
+    private final AtomicLong totalChunks = new AtomicLong();
+    private final AtomicLong skippedRuns = new AtomicLong();
+    private volatile long currentRunArchived;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile long lastRunArchived;
+    private volatile long lastRunDurationMs;
 
     /**
      * Constructs a new ReportArchiveService with required dependencies.
      *
      * @param reportRepository the repository for active report data access
      * @param resolvedReportRepository the repository for archived report data access
+     * @param transactionTemplate the template used to run each chunk in its own transaction
+     * @param reportStatisticsService the service maintaining report counters
      */
-    public ReportArchiveService(ReportRepository reportRepository, 
-                                ResolvedReportRepository resolvedReportRepository) {
+    public ReportArchiveService(ReportRepository reportRepository,
+                                ResolvedReportRepository resolvedReportRepository,
+                                TransactionTemplate transactionTemplate,
+                                ReportStatisticsService reportStatisticsService) {
         this.reportRepository = reportRepository;
         this.resolvedReportRepository = resolvedReportRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.reportStatisticsService = reportStatisticsService;
     }
-    
+
     /**
-     * Runs on application startup to catch up on reports that should have been archived.
+     * Runs after application startup to catch up on reports that should have been archived.
      * Archives any resolved reports that have been resolved for 24+ hours.
+     * Runs asynchronously so instance readiness is not delayed by the archive pass.
      */
+    @Async
     @EventListener(ApplicationReadyEvent.class)
-    @Transactional
     public void onStartup() {
-        logger.info("Application started - running initial report archive check");
+        logger.info("Application started - running initial report archive check in background");
         performArchiving();
     }
-    
+
     /**
      * Scheduled task that runs every hour to archive old resolved reports.
      * Archives reports that have been in resolved status for 24+ hours.
      * Cron expression: "0 0 * * * *" = every hour at minute 0
      */
     @Scheduled(cron = "0 0 * * * *")
-    @Transactional
     public void archiveOldResolvedReports() {
         logger.info("Starting scheduled task: archiveOldResolvedReports");
         performArchiving();
     }
-    
+
     /**
      * Core archiving logic that moves resolved reports to the archive table.
-     * Finds all resolved reports older than 24 hours, copies them to resolved_reports table,
-     * and deletes them from the reports table.
-     * Must be called from a @Transactional method for proper transaction management.
+     * OPTIMIZED: Moves reports in bounded chunks with one set-based statement per chunk
+     * instead of loading every report and saving/deleting row by row.
+     * Each chunk commits in its own transaction, so a failure only rolls back that chunk.
+     * Each chunk also takes a transaction-scoped Postgres advisory lock; if another instance
+     * holds it, this pass stops and leaves the work to that instance. Transaction-scoped locks
+     * are used because the Supabase pooler runs in transaction mode, where session locks leak.
+     * The lock is therefore released between chunks, and a pass started concurrently on another
+     * instance can take over: at most one chunk is in flight at a time, the instance that loses
+     * the lock stops and counts a skipped run, and the remaining chunks are finished by the other.
+     * Chunks are disjoint either way (SKIP LOCKED), so a hand-over never archives a report twice.
+     *
+     * @return the total number of reports archived in this pass
      */
-    private void performArchiving() {
+    private long performArchiving() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Report archiving already running on this instance - skipping");
+            skippedRuns.incrementAndGet();
+            return 0;
+        }
+
+        long started = System.currentTimeMillis();
+        lastRunStartedAt = LocalDateTime.now();
+        currentRunArchived = 0;
+        LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusHours(24);
+        logger.info("Looking for reports resolved before: {}", twentyFourHoursAgo);
+
+        long archived = 0;
+        int chunks = 0;
         try {
-            LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusHours(24);
-            logger.info("Looking for reports resolved before: {}", twentyFourHoursAgo);
-            
-            // Find all resolved reports where reviewedAt is more than 24 hours ago
-            List<Report> reportsToArchive = reportRepository.findAll().stream()
-                .filter(report -> report.getStatus() == ReportStatus.RESOLVED)
-                .filter(report -> report.getReviewedAt() != null)
-                .filter(report -> report.getReviewedAt().isBefore(twentyFourHoursAgo))
-                .toList();
-            
-            if (reportsToArchive.isEmpty()) {
-                logger.info("No reports found to archive");
-                return;
-            }
-            
-            logger.info("Found {} reports to archive", reportsToArchive.size());
-            
-            // Archive each report
-            int successCount = 0;
-            for (Report report : reportsToArchive) {
-                try {
-                    logger.info("Archiving report {} - reviewedAt: {}", 
-                               report.getReportGU(), report.getReviewedAt());
-                    
-                    // Create resolved report entry
-                    ResolvedReport resolvedReport = new ResolvedReport(report);
-                    resolvedReportRepository.save(resolvedReport);
-                    resolvedReportRepository.flush(); // Force immediate write
-                    
-                    logger.info("Saved to resolved_reports table: {}", report.getReportGU());
-                    
-                    // Delete from reports table
-                    reportRepository.delete(report);
-                    reportRepository.flush(); // Force immediate delete
-                    
-                    logger.info("Deleted from reports table: {}", report.getReportGU());
-                    successCount++;
-                    
-                } catch (Exception e) {
-                    logger.error("Failed to archive report {}: {}", 
-                                report.getReportGU(), e.getMessage(), e);
-                    throw e; // Re-throw to roll back transaction for this report
+            while (true) {
+                Long moved = transactionTemplate.execute(status -> {
+                    if (!reportRepository.tryAcquireArchiveLock(ARCHIVE_LOCK_KEY)) {
+                        return null;
+                    }
+                    long count = reportRepository.archiveReviewedBefore(
+                        ReportStatus.RESOLVED.name(), twentyFourHoursAgo, LocalDateTime.now(), batchSize);
+                    reportStatisticsService.recordArchived(ReportStatus.RESOLVED, count);
+                    return count;
+                });
+
+                if (moved == null) {
+                    logger.info("Another instance holds the report archive lock - stopping this pass");
+                    skippedRuns.incrementAndGet();
+                    break;
+                }
+
+                archived += moved;
+                chunks++;
+                currentRunArchived = archived;
+                totalArchived.addAndGet(moved);
+                totalChunks.incrementAndGet();
+
+                if (chunks % PROGRESS_LOG_INTERVAL == 0) {
+                    logger.info("Report archiving progress: {} reports in {} chunks", archived, chunks);
+                }
+                if (moved < batchSize) {
+                    break;
                 }
             }
-            
-            logger.info("Successfully archived {} reports", successCount);
-            
         } catch (Exception e) {
-            logger.error("Error during report archiving: {}", e.getMessage(), e);
-            throw e; // Re-throw to ensure transaction rollback
+            logger.error("Error during report archiving after {} reports: {}", archived, e.getMessage(), e);
+            throw e;
+        } finally {
+            lastRunArchived = archived;
+            lastRunDurationMs = System.currentTimeMillis() - started;
+            lastRunFinishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+
+        if (archived == 0) {
+            logger.info("No reports found to archive");
+        } else {
+            logger.info("Successfully archived {} reports in {} chunks ({} ms)", archived, chunks, lastRunDurationMs);
         }
+        return archived;
+    }
+
+    /**
+     * Returns a snapshot of archiver progress for monitoring.
+     *
+     * @return the current archive progress
+     */
+    public ArchiveProgress getProgress() {
+        boolean isRunning = running.get();
+        return new ArchiveProgress(
+            isRunning,
+            isRunning ? currentRunArchived : lastRunArchived,
+            totalArchived.get(),
+            totalChunks.get(),
+            skippedRuns.get(),
+            lastRunStartedAt,
+            lastRunFinishedAt,
+            lastRunDurationMs
+        );
     }
-    
+
     /**
      * Manually archives a specific report immediately, bypassing the 24-hour wait.
      * Can be called by admins if needed for immediate archiving.
@@ -135,12 +205,28 @@ public class ReportArchiveService {
     @Transactional
     public void archiveReportManually(Report report) {
         logger.info("Manually archiving report {}", report.getReportGU());
-        
+
         ResolvedReport resolvedReport = new ResolvedReport(report);
         resolvedReportRepository.save(resolvedReport);
         reportRepository.delete(report);
-        
+        reportStatisticsService.recordArchived(report.getStatus(), 1);
+
         logger.info("Successfully archived report {}", report.getReportGU());
     }
-}
 
+    /**
+     * Record representing archiver progress.
+     *
+     * @param running whether a pass is currently running on this instance
+     * @param currentRunArchived reports archived by the running pass, or by the last pass if idle
+     * @param totalArchived reports archived by this instance since startup
+     * @param totalChunks chunks committed by this instance since startup
+     * @param skippedRuns passes skipped because a pass was already running or another instance held the lock
+     * @param lastRunStartedAt when the most recent pass started
+     * @param lastRunFinishedAt when the most recent pass finished
+     * @param lastRunDurationMs duration of the most recent pass in milliseconds
+     */
+    public record ArchiveProgress(boolean running, long currentRunArchived, long totalArchived, long totalChunks,
+                                  long skippedRuns, LocalDateTime lastRunStartedAt, LocalDateTime lastRunFinishedAt,
+                                  long lastRunDurationMs) {}
+}
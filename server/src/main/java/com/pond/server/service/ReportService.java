@@ -2,10 +2,7 @@ package com.pond.server.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,43 +14,43 @@ import com.pond.server.dto.ReportDTO;
 import com.pond.server.dto.UpdateReportRequest;
 import com.pond.server.enums.ReportReason;
 import com.pond.server.enums.ReportStatus;
-import com.pond.server.model.Listing;
 import com.pond.server.model.Report;
 import com.pond.server.model.ResolvedReport;
-import com.pond.server.model.User;
-import com.pond.server.repository.ListingRepository;
 import com.pond.server.repository.ReportRepository;
 import com.pond.server.repository.ResolvedReportRepository;
-import com.pond.server.repository.UserRepository;
+import com.pond.server.service.DisplayNameService.DisplayNames;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service class for managing listing reports.
  * Handles report creation, status updates, retrieval with optimization for N+1 query prevention.
  */
 @Service
+@Timed(value = "pond.service", histogram = true)
 public class ReportService {
     
     private final ReportRepository reportRepository;
     private final ResolvedReportRepository resolvedReportRepository;
-    private final UserRepository userRepository;
-    private final ListingRepository listingRepository;
+    private final DisplayNameService displayNameService;
+    private final ReportStatisticsService reportStatisticsService;
 
     /**
      * Constructs a new ReportService with required dependencies.
      *
      * @param reportRepository the repository for report data access
      * @param resolvedReportRepository the repository for resolved report data access
-     * @param userRepository the repository for user data access
-     * @param listingRepository the repository for listing data access
+     * @param displayNameService the service resolving usernames and listing titles
+     * @param reportStatisticsService the service maintaining report counters
      */
     public ReportService(ReportRepository reportRepository, 
                          ResolvedReportRepository resolvedReportRepository,
-                         UserRepository userRepository, 
-                         ListingRepository listingRepository) {
+                         DisplayNameService displayNameService,
+                         ReportStatisticsService reportStatisticsService) {
         this.reportRepository = reportRepository;
         this.resolvedReportRepository = resolvedReportRepository;
-        this.userRepository = userRepository;
-        this.listingRepository = listingRepository;
+        this.displayNameService = displayNameService;
+        this.reportStatisticsService = reportStatisticsService;
     }
     
     /**
@@ -80,7 +77,9 @@ public class ReportService {
             request.getMessage()  
         );
         
-        return mapToDTO(reportRepository.save(report));
+        Report saved = reportRepository.save(report);
+        reportStatisticsService.recordCreated(saved);
+        return mapToDTO(saved);
     }
     
     /**
@@ -126,23 +125,27 @@ public class ReportService {
         Report report = reportRepository.findById(reportGU)
             .orElseThrow(() -> new RuntimeException("Report not found"));
         
+        ReportStatus oldStatus = report.getStatus();
         report.setStatus(ReportStatus.valueOf(request.getStatus()));
         report.setAdminNotes(request.getAdminNotes());
         report.setReviewedByAdminGU(adminGU);
         report.setReviewedAt(LocalDateTime.now());
         
-        return mapToDTO(reportRepository.save(report));
+        Report saved = reportRepository.save(report);
+        reportStatisticsService.recordStatusChange(oldStatus, saved.getStatus());
+        return mapToDTO(saved);
     }
     
     /**
      * Gets the count of pending reports.
      * Used for admin notification badges.
+     * OPTIMIZED: Reads the materialized counter instead of counting the reports table.
      *
      * @return the number of reports with PENDING status
      */
     @Transactional(readOnly = true)
     public long getPendingReportCount() {
-        return reportRepository.countByStatus(ReportStatus.PENDING);
+        return reportStatisticsService.getStatusCount(ReportStatus.PENDING);
     }
     
     /**
@@ -189,166 +192,74 @@ public class ReportService {
     }
     
     /**
-     * Gets the total count of active reports.
-     * Used for admin dashboard statistics.
-     *
-     * @return the total number of active reports
-     */
-    @Transactional(readOnly = true)
-    public long getTotalReportCount() {
-        return reportRepository.count();
-    }
-    
-    /**
-     * Gets the total count of resolved reports.
-     * Used for admin dashboard statistics.
+     * Gets report statistics for the admin dashboard.
+     * OPTIMIZED: Reads materialized counters by primary key instead of counting the reports tables.
      *
-     * @return the total number of resolved reports
+     * @return the current report statistics
      */
     @Transactional(readOnly = true)
-    public long getTotalResolvedReportCount() {
-        return resolvedReportRepository.count();
+    public ReportStatisticsService.Snapshot getStatistics() {
+        return reportStatisticsService.getSnapshot();
     }
     
     /**
-     * OPTIMIZED: Batch fetch helper to prevent N+1 queries
-     * Fetches all related users and listings in 2 queries instead of N*2 queries
+     * OPTIMIZED: Batch enrichment helper to prevent N+1 queries.
+     * Resolves all usernames and listing titles for the page in at most one round trip.
      */
     private Page<ReportDTO> mapToDTOWithBatchFetch(Page<Report> reports) {
         if (reports.isEmpty()) {
-            return reports.map(this::mapToDTO);
+            return reports.map(report -> toDTO(report, DisplayNames.EMPTY));
         }
         
-        // Collect all unique user and listing IDs from the reports
-        List<UUID> userGUs = reports.stream()
-            .map(Report::getUserGU)
-            .distinct()
-            .collect(Collectors.toList());
+        DisplayNames names = displayNameService.resolve(
+            reports.stream().map(Report::getUserGU).toList(),
+            reports.stream().map(Report::getListingGU).toList());
         
-        List<UUID> listingGUs = reports.stream()
-            .map(Report::getListingGU)
-            .distinct()
-            .collect(Collectors.toList());
-        
-        // Batch fetch all users and listings (2 queries total instead of N*2)
-        Map<UUID, User> userMap = StreamSupport.stream(userRepository.findAllById(userGUs).spliterator(), false)
-            .collect(Collectors.toMap(User::getUserGU, user -> user));
-        
-        Map<UUID, Listing> listingMap = StreamSupport.stream(listingRepository.findAllById(listingGUs).spliterator(), false)
-            .collect(Collectors.toMap(Listing::getListingGU, listing -> listing));
-        
-        // Map using cached data - no more queries!
-        return reports.map(report -> mapToDTOWithCache(report, userMap, listingMap));
+        return reports.map(report -> toDTO(report, names));
     }
     
     /**
-     * OPTIMIZED: Batch fetch helper for resolved reports
+     * OPTIMIZED: Batch enrichment helper for resolved reports
      */
     private Page<ReportDTO> mapResolvedToDTOWithBatchFetch(Page<ResolvedReport> reports) {
         if (reports.isEmpty()) {
-            return reports.map(this::mapResolvedToDTO);
+            return reports.map(report -> toDTO(report, DisplayNames.EMPTY));
         }
         
-        // Collect all unique user and listing IDs from the reports
-        List<UUID> userGUs = reports.stream()
-            .map(ResolvedReport::getUserGU)
-            .distinct()
-            .collect(Collectors.toList());
-        
-        List<UUID> listingGUs = reports.stream()
-            .map(ResolvedReport::getListingGU)
-            .distinct()
-            .collect(Collectors.toList());
-        
-        // Batch fetch all users and listings
-        Map<UUID, User> userMap = StreamSupport.stream(userRepository.findAllById(userGUs).spliterator(), false)
-            .collect(Collectors.toMap(User::getUserGU, user -> user));
-        
-        Map<UUID, Listing> listingMap = StreamSupport.stream(listingRepository.findAllById(listingGUs).spliterator(), false)
-            .collect(Collectors.toMap(Listing::getListingGU, listing -> listing));
+        DisplayNames names = displayNameService.resolve(
+            reports.stream().map(ResolvedReport::getUserGU).toList(),
+            reports.stream().map(ResolvedReport::getListingGU).toList());
         
-        // Map using cached data
-        return reports.map(report -> mapResolvedToDTOWithCache(report, userMap, listingMap));
+        return reports.map(report -> toDTO(report, names));
     }
     
     /**
-     * Maps a Report to ReportDTO using pre-fetched cache.
-     * Provides O(1) lookup instead of N database queries.
+     * Maps a single Report entity to ReportDTO.
+     * Uses the shared display name cache, so this costs at most one round trip.
      *
      * @param report the report entity to map
-     * @param userMap cached map of user UUIDs to User entities
-     * @param listingMap cached map of listing UUIDs to Listing entities
-     * @return the ReportDTO representation
-     */
-    private ReportDTO mapToDTOWithCache(Report report, Map<UUID, User> userMap, Map<UUID, Listing> listingMap) {
-        User user = userMap.get(report.getUserGU());
-        Listing listing = listingMap.get(report.getListingGU());
-        
-        return new ReportDTO(
-            report.getReportGU().toString(),
-            report.getUserGU().toString(),
-            user != null ? user.getUsername() : "Unknown",
-            report.getListingGU().toString(),
-            listing != null ? listing.getTitle() : "Deleted Listing",
-            report.getReason(),
-            report.getMessage(),
-            report.getStatus(),
-            report.getCreatedAt(),
-            report.getReviewedByAdminGU() != null ? 
-                report.getReviewedByAdminGU().toString() : null,
-            report.getReviewedAt(),
-            report.getAdminNotes()
-        );
-    }
-    
-    /**
-     * Maps a ResolvedReport to ReportDTO using pre-fetched cache.
-     * Provides O(1) lookup instead of N database queries.
-     *
-     * @param report the resolved report entity to map
-     * @param userMap cached map of user UUIDs to User entities
-     * @param listingMap cached map of listing UUIDs to Listing entities
      * @return the ReportDTO representation
      */
-    private ReportDTO mapResolvedToDTOWithCache(ResolvedReport report, Map<UUID, User> userMap, Map<UUID, Listing> listingMap) {
-        User user = userMap.get(report.getUserGU());
-        Listing listing = listingMap.get(report.getListingGU());
-        
-        return new ReportDTO(
-            report.getReportGU().toString(),
-            report.getUserGU().toString(),
-            user != null ? user.getUsername() : "Unknown",
-            report.getListingGU().toString(),
-            listing != null ? listing.getTitle() : "Deleted Listing",
-            report.getReason(),
-            report.getMessage(),
-            report.getStatus(),
-            report.getCreatedAt(),
-            report.getReviewedByAdminGU() != null ? 
-                report.getReviewedByAdminGU().toString() : null,
-            report.getReviewedAt(),
-            report.getAdminNotes()
-        );
+    private ReportDTO mapToDTO(Report report) {
+        DisplayNames names = displayNameService.resolve(
+            List.of(report.getUserGU()), List.of(report.getListingGU()));
+        return toDTO(report, names);
     }
     
     /**
-     * Maps a Report entity to ReportDTO with individual database queries.
-     * Used when not batch fetching (single report operations).
+     * Maps a Report to ReportDTO using pre-resolved display names.
      *
      * @param report the report entity to map
+     * @param names resolved usernames and listing titles
      * @return the ReportDTO representation
      */
-    private ReportDTO mapToDTO(Report report) {
-        // Fetch user and listing details
-        var user = userRepository.findById(report.getUserGU()).orElse(null);
-        var listing = listingRepository.findById(report.getListingGU()).orElse(null);
-        
+    private ReportDTO toDTO(Report report, DisplayNames names) {
         return new ReportDTO(
             report.getReportGU().toString(),
             report.getUserGU().toString(),
-            user != null ? user.getUsername() : "Unknown",
+            names.usernames().getOrDefault(report.getUserGU(), "Unknown"),
             report.getListingGU().toString(),
-            listing != null ? listing.getTitle() : "Deleted Listing",
+            names.listingTitles().getOrDefault(report.getListingGU(), "Deleted Listing"),
             report.getReason(),
             report.getMessage(),
             report.getStatus(),
@@ -361,23 +272,19 @@ public class ReportService {
     }
     
     /**
-     * Maps a ResolvedReport entity to ReportDTO with individual database queries.
-     * Used when not batch fetching (single report operations).
+     * Maps a ResolvedReport to ReportDTO using pre-resolved display names.
      *
      * @param report the resolved report entity to map
+     * @param names resolved usernames and listing titles
      * @return the ReportDTO representation
      */
-    private ReportDTO mapResolvedToDTO(ResolvedReport report) {
-        // Fetch user and listing details
-        var user = userRepository.findById(report.getUserGU()).orElse(null);
-        var listing = listingRepository.findById(report.getListingGU()).orElse(null);
-        
+    private ReportDTO toDTO(ResolvedReport report, DisplayNames names) {
         return new ReportDTO(
             report.getReportGU().toString(),
             report.getUserGU().toString(),
-            user != null ? user.getUsername() : "Unknown",
+            names.usernames().getOrDefault(report.getUserGU(), "Unknown"),
             report.getListingGU().toString(),
-            listing != null ? listing.getTitle() : "Deleted Listing",
+            names.listingTitles().getOrDefault(report.getListingGU(), "Deleted Listing"),
             report.getReason(),
             report.getMessage(),
             report.getStatus(),
@@ -388,4 +295,4 @@ public class ReportService {
             report.getAdminNotes()
         );
     }
-}
\ No newline at end of file
+}
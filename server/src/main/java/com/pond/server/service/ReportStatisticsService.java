@@ -0,0 +1,257 @@
+package com.pond.server.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pond.server.enums.ReportReason;
+import com.pond.server.enums.ReportStatus;
+import com.pond.server.model.Report;
+import com.pond.server.model.ReportCounter;
+import com.pond.server.repository.MaintenanceMarkerRepository;
+import com.pond.server.repository.ReportCounterRepository;
+
+/**
+ * Service class for materialized report statistics.
+ * Maintains per-status, per-reason and per-day counters incrementally as reports change,
+ * so dashboard reads are primary-key lookups that never scan the reports tables.
+ *
+ * <p>Status counters cover active (not yet archived) reports. Reason and day counters
+ * cover every report on record, active or archived. Counters are rebuilt from the
+ * tables when missing at startup and reconciled nightly to correct any drift.</p>
+ */
+@Service
+public class ReportStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportStatisticsService.class);
+
+    private static final String ACTIVE = "active";
+    private static final String RESOLVED = "resolved";
+    private static final String STATUS_PREFIX = "status:";
+    private static final String REASON_PREFIX = "reason:";
+    private static final String DAY_PREFIX = "day:";
+
+    // Marker recording that the counters were seeded from the reports tables
+    private static final String COUNTERS_SEEDED_MARKER = "report-counters-seeded";
+
+    private final ReportCounterRepository reportCounterRepository;
+    private final MaintenanceMarkerRepository maintenanceMarkerRepository;
+
+    /**
+     * Constructs a new ReportStatisticsService with required dependencies.
+     *
+     * @param reportCounterRepository the repository for report counters
+     * @param maintenanceMarkerRepository the repository recording one-time seeding
+     */
+    public ReportStatisticsService(ReportCounterRepository reportCounterRepository,
+                                   MaintenanceMarkerRepository maintenanceMarkerRepository) {
+        this.reportCounterRepository = reportCounterRepository;
+        this.maintenanceMarkerRepository = maintenanceMarkerRepository;
+    }
+
+    /**
+     * Records a newly created report.
+     * Must run in the transaction that saves the report.
+     *
+     * @param report the report that was created
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Report report) {
+        Map<String, Long> deltas = new TreeMap<>();
+        deltas.put(ACTIVE, 1L);
+        deltas.put(statusKey(report.getStatus()), 1L);
+        deltas.put(REASON_PREFIX + report.getReason().name(), 1L);
+        deltas.put(dayKey(report.getCreatedAt().toLocalDate()), 1L);
+        apply(deltas);
+    }
+
+    /**
+     * Records a report status change.
+     * Must run in the transaction that updates the report.
+     *
+     * @param oldStatus the status before the change
+     * @param newStatus the status after the change
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(ReportStatus oldStatus, ReportStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        Map<String, Long> deltas = new TreeMap<>();
+        deltas.put(statusKey(oldStatus), -1L);
+        deltas.put(statusKey(newStatus), 1L);
+        apply(deltas);
+    }
+
+    /**
+     * Records reports moved from the active table to the archive.
+     * Reason and day counters are unchanged because the reports remain on record.
+     * Must run in the transaction that moves the reports.
+     *
+     * @param status the status of the archived reports
+     * @param count the number of reports archived
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordArchived(ReportStatus status, long count) {
+        if (count == 0) {
+            return;
+        }
+        Map<String, Long> deltas = new TreeMap<>();
+        deltas.put(ACTIVE, -count);
+        deltas.put(RESOLVED, count);
+        deltas.put(statusKey(status), -count);
+        apply(deltas);
+    }
+
+    /**
+     * Records the deletion of every active and archived report filed against the given listings.
+     * Must run in the transaction that deletes the reports, before they are deleted.
+     * OPTIMIZED: Deltas are aggregated in the database, so the reports are never loaded.
+     *
+     * @param listingGUs UUIDs of the listings whose reports are about to be deleted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletedForListings(Collection<UUID> listingGUs) {
+        if (listingGUs.isEmpty()) {
+            return;
+        }
+        reportCounterRepository.subtractReportsOfListings(listingGUs);
+    }
+
+    /**
+     * Gets the number of active reports with a status.
+     *
+     * @param status the report status
+     * @return the count from the materialized counter
+     */
+    @Transactional(readOnly = true)
+    public long getStatusCount(ReportStatus status) {
+        return reportCounterRepository.findById(statusKey(status))
+            .map(ReportCounter::getValue)
+            .orElse(0L);
+    }
+
+    /**
+     * Reads every dashboard statistic in one primary-key batch lookup.
+     *
+     * @return a snapshot of the report statistics
+     */
+    @Transactional(readOnly = true)
+    public Snapshot getSnapshot() {
+        LocalDate today = LocalDate.now();
+        List<String> keys = new ArrayList<>();
+        keys.add(ACTIVE);
+        keys.add(RESOLVED);
+        keys.add(dayKey(today));
+        for (ReportStatus status : ReportStatus.values()) keys.add(statusKey(status));
+        for (ReportReason reason : ReportReason.values()) keys.add(REASON_PREFIX + reason.name());
+
+        Map<String, Long> values = new HashMap<>();
+        for (ReportCounter counter : reportCounterRepository.findAllById(keys)) {
+            values.put(counter.getCounterKey(), counter.getValue());
+        }
+
+        Map<ReportStatus, Long> byStatus = new EnumMap<>(ReportStatus.class);
+        for (ReportStatus status : ReportStatus.values()) {
+            byStatus.put(status, values.getOrDefault(statusKey(status), 0L));
+        }
+        Map<ReportReason, Long> byReason = new EnumMap<>(ReportReason.class);
+        for (ReportReason reason : ReportReason.values()) {
+            byReason.put(reason, values.getOrDefault(REASON_PREFIX + reason.name(), 0L));
+        }
+
+        return new Snapshot(
+            values.getOrDefault(ACTIVE, 0L),
+            values.getOrDefault(RESOLVED, 0L),
+            values.getOrDefault(dayKey(today), 0L),
+            byStatus,
+            byReason
+        );
+    }
+
+    /**
+     * Seeds the counters from the reports tables on first startup.
+     * Reports filed before this listener runs may already have created counters, so the seed
+     * is gated on a marker rather than on the {@code active} counter existing.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (maintenanceMarkerRepository.existsById(COUNTERS_SEEDED_MARKER)) {
+            return;
+        }
+        logger.info("Report counters not seeded yet - rebuilding from reports tables");
+        rebuild();
+        maintenanceMarkerRepository.markCompleted(COUNTERS_SEEDED_MARKER);
+    }
+
+    /**
+     * Scheduled task that reconciles the counters with the reports tables nightly.
+     * Cron expression: "0 30 3 * * *" = every day at 03:30
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void reconcile() {
+        logger.info("Starting scheduled task: reconcile report counters");
+        rebuild();
+    }
+
+    /**
+     * Recomputes every counter from the reports tables.
+     * The counters table is locked for the duration so concurrent deltas are neither lost nor double counted.
+     */
+    private void rebuild() {
+        reportCounterRepository.lockForRebuild();
+        reportCounterRepository.deleteAllCounters();
+        int rows = reportCounterRepository.rebuildFromReports();
+        logger.info("Rebuilt {} report counters", rows);
+    }
+
+    /**
+     * Applies counter deltas in key order, so concurrent transactions lock rows in the same order.
+     *
+     * @param deltas sorted map of counter key to delta
+     */
+    private void apply(Map<String, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                reportCounterRepository.increment(key, delta);
+            }
+        });
+    }
+
+    private static String statusKey(ReportStatus status) {
+        return STATUS_PREFIX + status.name();
+    }
+
+    private static String dayKey(LocalDate day) {
+        return DAY_PREFIX + day;
+    }
+
+    /**
+     * Record representing materialized report statistics.
+     *
+     * @param activeReports the count of active reports
+     * @param resolvedReports the count of archived reports
+     * @param reportsToday the count of reports filed today
+     * @param byStatus active report counts per status
+     * @param byReason report counts per reason, active and archived
+     */
+    public record Snapshot(long activeReports, long resolvedReports, long reportsToday,
+                           Map<ReportStatus, Long> byStatus, Map<ReportReason, Long> byReason) {}
+}
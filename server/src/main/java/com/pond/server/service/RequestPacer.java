@@ -0,0 +1,47 @@
+package com.pond.server.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out calls to an external API made by background jobs.
+ *
+ * <p>Cleanup and reconciliation jobs can issue bursts of storage requests. Pacing them to a
+ * fixed rate keeps those jobs from competing with user uploads for the Supabase rate limit.
+ * Callers block in {@link #acquire()} until their slot; the pacer never rejects a call.</p>
+ */
+public final class RequestPacer {
+
+    private final long intervalNanos;
+    private long nextSlotNanos;
+
+    /**
+     * Creates a new pacer.
+     *
+     * @param requestsPerSecond the maximum request rate; 0 or less disables pacing
+     */
+    public RequestPacer(double requestsPerSecond) {
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+        this.nextSlotNanos = System.nanoTime();
+    }
+
+    /**
+     * Blocks until the next request may be made.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotNanos);
+            nextSlotNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -1,41 +1,83 @@
 package com.pond.server.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.pond.server.dto.CreateReviewRequest;
 import com.pond.server.dto.ReviewDTO;
+import com.pond.server.dto.SellerRatingDTO;
 import com.pond.server.dto.UpdateReviewRequest;
 import com.pond.server.dto.UserRatingStatsDTO;
-import com.pond.server.model.Listing;
 import com.pond.server.model.Review;
 import com.pond.server.model.User;
+import com.pond.server.model.UserRatingStats;
 import com.pond.server.repository.ListingRepository;
+import com.pond.server.repository.MaintenanceMarkerRepository;
 import com.pond.server.repository.ReviewRepository;
+import com.pond.server.repository.UserRatingStatsRepository;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service class for managing user reviews.
  * Handles creation, updating, deletion, and retrieval of reviews between users who have completed transactions.
  */
 @Service
+@Timed(value = "pond.service", histogram = true)
 public class ReviewService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReviewService.class);
+
+    // Maximum number of users accepted by the batch rating endpoint
+    public static final int MAX_BATCH_RATING_USERS = 500;
+
+    // Marker recording that rating aggregates were seeded from the reviews table
+    private static final String STATS_SEEDED_MARKER = "rating-stats-seeded";
+
+    private final LookupCache<UUID, SellerRatingDTO> ratingCache = new LookupCache<>(20_000, Duration.ofMinutes(5));
+
     private final ReviewRepository reviewRepository;
     private final ListingRepository listingRepository;
+    private final UserRatingStatsRepository userRatingStatsRepository;
+    private final MaintenanceMarkerRepository maintenanceMarkerRepository;
 
     /**
      * Constructs a new ReviewService with required dependencies.
      *
      * @param reviewRepository the repository for review data access
      * @param listingRepository the repository for listing data access
+     * @param userRatingStatsRepository the repository for per-user rating aggregates
+     * @param maintenanceMarkerRepository the repository recording one-time seeding
      */
-    public ReviewService(ReviewRepository reviewRepository, ListingRepository listingRepository){
+    public ReviewService(ReviewRepository reviewRepository, ListingRepository listingRepository,
+                         UserRatingStatsRepository userRatingStatsRepository,
+                         MaintenanceMarkerRepository maintenanceMarkerRepository){
         this.reviewRepository = reviewRepository;
         this.listingRepository = listingRepository;
+        this.userRatingStatsRepository = userRatingStatsRepository;
+        this.maintenanceMarkerRepository = maintenanceMarkerRepository;
     }
 
     /**
@@ -69,19 +111,8 @@ public class ReviewService {
             throw new RuntimeException("You have already reviewed this person.");
         }
 
-        // Find a listing where these two users had a transaction
         // Either: reviewer is seller and reviewee is buyer, OR reviewer is buyer and reviewee is seller
-        List<Listing> sellerToBuyerListings = listingRepository.findByUserGUAndSoldTo(reviewerGu, revieweeGu);
-        List<Listing> buyerToSellerListings = listingRepository.findByUserGUAndSoldTo(revieweeGu, reviewerGu);
-
-        Listing transactionListing = null;
-        if (!sellerToBuyerListings.isEmpty()) {
-            transactionListing = sellerToBuyerListings.get(0); // If theres multiple listings just grab one arbitrarily
-        } else if (!buyerToSellerListings.isEmpty()) {
-            transactionListing = buyerToSellerListings.get(0);
-        }
-
-        if (transactionListing == null) {
+        if (!listingRepository.didTransactionOccur(reviewerGu, revieweeGu)) {
             throw new RuntimeException("No transaction found between you and this user.");
         }
 
@@ -91,6 +122,9 @@ public class ReviewService {
 //                ? ReviewType.TRANSACTION
 //                : ReviewType.CONVERSATION;
 
+        // Make sure the aggregate row exists before the new review is flushed
+        userRatingStatsRepository.ensureExists(revieweeGu);
+
         // Create review
         Review review = new Review();
         review.setReviewerGu(reviewerGu);
@@ -99,6 +133,8 @@ public class ReviewService {
         review.setComment(request.getComment());
         review.setTimestamp(LocalDateTime.now());
         review = reviewRepository.save(review);
+        userRatingStatsRepository.applyRating(revieweeGu, review.getRating(), 1);
+        invalidateRating(revieweeGu);
         
         // Fetch the review with user info in one query
         return reviewRepository.findReviewWithReviewerInfoById(review.getId())
@@ -127,6 +163,10 @@ public class ReviewService {
             throw new RuntimeException("Not authorized to update this review.");
         }
 
+        // Make sure the aggregate row exists before the edit is flushed
+        userRatingStatsRepository.ensureExists(existingReview.getRevieweeGu());
+        int oldRating = existingReview.getRating();
+
         if (request.getRating() != null) {
             if (request.getRating() < 1 || request.getRating() > 5){
                 throw new RuntimeException("Rating must be between 1 and 5");
@@ -142,6 +182,11 @@ public class ReviewService {
 
         existingReview.setUpdatedAt(LocalDateTime.now());
         Review updatedReview = reviewRepository.save(existingReview);
+        if (updatedReview.getRating() != oldRating) {
+            userRatingStatsRepository.applyRating(updatedReview.getRevieweeGu(), oldRating, -1);
+            userRatingStatsRepository.applyRating(updatedReview.getRevieweeGu(), updatedReview.getRating(), 1);
+            invalidateRating(updatedReview.getRevieweeGu());
+        }
         
         // Fetch the review with user info in one query
         return reviewRepository.findReviewWithReviewerInfoById(updatedReview.getId())
@@ -167,7 +212,10 @@ public class ReviewService {
         if (!reviewToDelete.getReviewerGu().equals(reviewerGu)){
             throw new RuntimeException("Not authorized to delete a review you do not own.");
         }
+        userRatingStatsRepository.ensureExists(reviewToDelete.getRevieweeGu());
         reviewRepository.deleteById(reviewId);
+        userRatingStatsRepository.applyRating(reviewToDelete.getRevieweeGu(), reviewToDelete.getRating(), -1);
+        invalidateRating(reviewToDelete.getRevieweeGu());
 
         return "Review deleted successfully";
     }
@@ -192,22 +240,43 @@ public class ReviewService {
             throw new RuntimeException("Not authorized to delete a review.");
         }
 
+        userRatingStatsRepository.ensureExists(reviewToDelete.getRevieweeGu());
         reviewRepository.deleteById(reviewId);
+        userRatingStatsRepository.applyRating(reviewToDelete.getRevieweeGu(), reviewToDelete.getRating(), -1);
+        invalidateRating(reviewToDelete.getRevieweeGu());
 
         return "Review deleted successfully";
     }
 
     /**
-     * Retrieves all reviews for a specific user.
-     * Uses optimized query that fetches reviews with reviewer info in a single query.
+     * Retrieves one page of reviews for a specific user, newest first.
+     * OPTIMIZED: Keyset pagination over (timestamp, id) with reviewer info fetched in the same query,
+     * so payload size and query time stay flat as a user's review count grows.
      *
      * @param userGu the UUID of the user (reviewee) whose reviews to retrieve
-     * @return a list of reviews for the user
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of reviews to return
+     * @return the page of reviews and the cursor for the next page (null when there are no more)
+     * @throws IllegalArgumentException if the cursor is malformed
      */
     @Transactional(readOnly = true)
-    public List<ReviewDTO> getReviewsForUser(UUID userGu){
-        // Use the optimized query that fetches reviews with reviewer info in a single query
-        return reviewRepository.findReviewsWithReviewerInfoByRevieweeGu(userGu);
+    public ReviewPage getReviewsForUser(UUID userGu, String cursor, int limit){
+        // Fetch one extra row to know whether another page exists without a second query
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ReviewDTO> reviews;
+        if (cursor == null || cursor.isBlank()) {
+            reviews = reviewRepository.findReviewPageByRevieweeGu(userGu, page);
+        } else {
+            ReviewCursor position = ReviewCursor.decode(cursor);
+            reviews = reviewRepository.findReviewPageByRevieweeGuBefore(userGu, position.timestamp(), position.id(), page);
+        }
+
+        if (reviews.size() <= limit) {
+            return new ReviewPage(reviews, null);
+        }
+        reviews = reviews.subList(0, limit);
+        ReviewDTO last = reviews.get(limit - 1);
+        return new ReviewPage(reviews, new ReviewCursor(last.getTimestamp(), last.getReviewGU()).encode());
     }
 
     /**
@@ -240,7 +309,8 @@ public class ReviewService {
 
     /**
      * Retrieves rating statistics for a user.
-     * Includes average rating, total review count, and whether current user can review them.
+     * Includes average rating, total review count, star histogram, and whether current user can review them.
+     * OPTIMIZED: Reads the maintained aggregate row by primary key instead of counting and averaging reviews.
      *
      * @param userGu the UUID of the user whose stats to retrieve
      * @param currentUserGu the UUID of the current user (null if not logged in)
@@ -248,12 +318,8 @@ public class ReviewService {
      */
     @Transactional(readOnly = true)
     public UserRatingStatsDTO getUserRatingStats(UUID userGu, UUID currentUserGu) {
-        Long totalReviews = reviewRepository.countByRevieweeGu(userGu);
-        Double averageRating = reviewRepository.findAverageRatingByRevieweeGu(userGu);
-
-        if (averageRating == null) {
-            averageRating = 0.0;
-        }
+        // No row means the user has never been reviewed
+        UserRatingStats stats = userRatingStatsRepository.findById(userGu).orElse(null);
 
         // Check if current user can review this user
         Boolean canReview = null;
@@ -261,6 +327,175 @@ public class ReviewService {
             canReview = canUserReview(currentUserGu, userGu);
         }
 
-        return new UserRatingStatsDTO(userGu, averageRating, totalReviews, canReview);
+        if (stats == null) {
+            return new UserRatingStatsDTO(userGu, 0.0, 0L, canReview, List.of(0L, 0L, 0L, 0L, 0L));
+        }
+        return new UserRatingStatsDTO(userGu, stats.getAverageRating(), stats.getReviewCount(), canReview,
+                List.of(stats.getStars1(), stats.getStars2(), stats.getStars3(), stats.getStars4(), stats.getStars5()));
+    }
+
+    /**
+     * Retrieves average rating and review count for many users at once.
+     * Used by listing grids to show seller ratings without one request per seller.
+     * OPTIMIZED: Cache hits are served from memory; all misses are read with one primary-key
+     * IN query against the rating aggregates, so a feed page costs at most one round trip.
+     *
+     * @param userGus the UUIDs of the users, at most {@link #MAX_BATCH_RATING_USERS}
+     * @return rating stats in request order, one per distinct user (zero for users with no reviews)
+     * @throws RuntimeException if too many users are requested
+     */
+    @Transactional(readOnly = true)
+    public List<SellerRatingDTO> getRatingStatsBatch(Collection<UUID> userGus) {
+        Set<UUID> ids = new LinkedHashSet<>(userGus);
+        ids.remove(null);
+        if (ids.size() > MAX_BATCH_RATING_USERS) {
+            throw new RuntimeException("Too many users requested; maximum is " + MAX_BATCH_RATING_USERS);
+        }
+
+        Map<UUID, SellerRatingDTO> found = ratingCache.getAll(ids);
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            if (!found.containsKey(id)) missing.add(id);
+        }
+
+        if (!missing.isEmpty()) {
+            Map<UUID, SellerRatingDTO> loaded = new HashMap<>();
+            for (UserRatingStats stats : userRatingStatsRepository.findAllById(missing)) {
+                loaded.put(stats.getUserGu(),
+                        new SellerRatingDTO(stats.getUserGu(), stats.getAverageRating(), stats.getReviewCount()));
+            }
+            // Users without an aggregate row have never been reviewed; cache that too
+            for (UUID id : missing) {
+                loaded.computeIfAbsent(id, key -> new SellerRatingDTO(key, 0.0, 0L));
+            }
+            ratingCache.putAll(loaded);
+            found.putAll(loaded);
+        }
+
+        List<SellerRatingDTO> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            result.add(found.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Removes a user's reviews from the rating aggregates before their account is deleted.
+     * The reviews themselves are removed by the database cascade, which bypasses the delta updates,
+     * so the aggregates of every user they reviewed are adjusted here while the rows still exist.
+     * The user's own aggregate is deleted as well.
+     *
+     * @param userGu UUID of the user being deleted
+     */
+    @Transactional
+    public void removeRatingsOfDeletedUser(UUID userGu) {
+        List<UUID> reviewees = reviewRepository.findRevieweeGusByReviewerGu(userGu);
+        if (!reviewees.isEmpty()) {
+            userRatingStatsRepository.removeReviewsBy(userGu);
+        }
+        userRatingStatsRepository.deleteById(userGu);
+        reviewees.forEach(this::invalidateRating);
+        invalidateRating(userGu);
+    }
+
+    /**
+     * Seeds rating aggregates from the reviews table on first startup.
+     * Runs in the background so startup is not held up by the full scan. Reviews written before
+     * it runs may already have created aggregate rows, so the seed is a locked rebuild gated on a
+     * marker rather than on an empty table; afterwards drift is left to {@link #reconcileRatingStats()}.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillRatingStats() {
+        if (maintenanceMarkerRepository.existsById(STATS_SEEDED_MARKER)) {
+            return;
+        }
+        logger.info("Rating aggregates not seeded yet - rebuilding from reviews table");
+        rebuildRatingStats();
+        maintenanceMarkerRepository.markCompleted(STATS_SEEDED_MARKER);
+    }
+
+    /**
+     * Scheduled task that rebuilds rating aggregates from the reviews table nightly.
+     * Corrects drift from reviews removed outside this service, e.g. by manual database edits.
+     * Cron expression: "0 45 3 * * *" = every day at 03:45
+     */
+    @Scheduled(cron = "0 45 3 * * *")
+    @Transactional
+    public void reconcileRatingStats() {
+        logger.info("Starting scheduled task: reconcile rating aggregates");
+        rebuildRatingStats();
+    }
+
+    /**
+     * Recomputes every aggregate row from the reviews table and clears the rating cache.
+     * The aggregates table is locked for the duration so concurrent deltas are neither lost nor double counted.
+     */
+    private void rebuildRatingStats() {
+        userRatingStatsRepository.lockForRebuild();
+        userRatingStatsRepository.deleteAllStats();
+        int rows = userRatingStatsRepository.backfillMissing();
+        runNowAndAfterCommit(ratingCache::invalidateAll);
+        logger.info("Rebuilt rating aggregates for {} users", rows);
+    }
+
+    /**
+     * Evicts a user's cached rating now and again once the transaction commits.
+     * A concurrent read between the two could otherwise cache the pre-commit aggregate for the full TTL.
+     *
+     * @param userGu UUID of the user whose rating changed
+     */
+    private void invalidateRating(UUID userGu) {
+        runNowAndAfterCommit(() -> ratingCache.invalidate(userGu));
+    }
+
+    /**
+     * Runs a cache eviction immediately and, inside a transaction, once more after commit.
+     *
+     * @param eviction the eviction to run
+     */
+    private static void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Record representing one page of reviews.
+     *
+     * @param reviews the reviews on this page, newest first
+     * @param nextCursor opaque cursor for the next page, or null if this is the last page
+     */
+    public record ReviewPage(List<ReviewDTO> reviews, String nextCursor) {}
+
+    /**
+     * Position of the last review on a page, encoded as an opaque URL-safe string.
+     *
+     * @param timestamp the review's creation timestamp
+     * @param id the review's UUID, breaking ties between equal timestamps
+     */
+    private record ReviewCursor(LocalDateTime timestamp, UUID id) {
+
+        String encode() {
+            String raw = timestamp + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ReviewCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('|');
+                return new ReviewCursor(LocalDateTime.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid review cursor", e);
+            }
+        }
     }
 }
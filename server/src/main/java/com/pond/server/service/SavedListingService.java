@@ -1,6 +1,11 @@
 package com.pond.server.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -9,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.pond.server.dto.ListingDTO;
 import com.pond.server.model.Listing;
-import com.pond.server.model.SavedListing;
 import com.pond.server.model.User;
 import com.pond.server.repository.ListingRepository;
 import com.pond.server.repository.SavedListingRepository;
@@ -21,6 +25,9 @@ import com.pond.server.repository.SavedListingRepository;
 @Service
 public class SavedListingService {
     
+    // Maximum number of listings accepted by the batch saved-status lookup
+    public static final int MAX_BATCH_STATUS_LISTINGS = 200;
+    
     private final SavedListingRepository savedListingRepository;
     private final ListingRepository listingRepository;
     
@@ -38,42 +45,33 @@ public class SavedListingService {
     
     /**
      * Saves a listing for a user (adds to favorites).
-     * Prevents duplicate saves.
+     * Idempotent: saving an already saved listing succeeds without changes.
+     * OPTIMIZED: Single INSERT ... ON CONFLICT DO NOTHING; the listing is only looked up
+     * again on the rare path where nothing was inserted, to report a missing listing.
      *
      * @param listingGU the UUID of the listing to save
      * @param user the user saving the listing
-     * @throws RuntimeException if listing not found or already saved
+     * @throws RuntimeException if listing not found
      */
     @Transactional
     public void saveListing(UUID listingGU, User user) {
-        // Check if listing exists
-        listingRepository.findById(listingGU)
-                .orElseThrow(() -> new RuntimeException("Listing not found"));
-        
-        // Check if already saved
-        if (savedListingRepository.existsByUserGUAndListingGU(user.getUserGU(), listingGU)) {
-            throw new RuntimeException("Listing already saved");
+        int inserted = savedListingRepository.saveIfAbsent(user.getUserGU(), listingGU, LocalDateTime.now());
+        if (inserted == 0 && !listingRepository.existsById(listingGU)) {
+            throw new RuntimeException("Listing not found");
         }
-        
-        // Create and save
-        SavedListing savedListing = new SavedListing(user.getUserGU(), listingGU);
-        savedListingRepository.save(savedListing);
     }
     
     /**
      * Removes a listing from user's saved listings (removes from favorites).
+     * Idempotent: unsaving a listing that is not saved succeeds without changes.
+     * OPTIMIZED: Single DELETE statement.
      *
      * @param listingGU the UUID of the listing to unsave
      * @param user the user unsaving the listing
-     * @throws RuntimeException if saved listing relationship not found
      */
     @Transactional
     public void unsaveListing(UUID listingGU, User user) {
-        SavedListing savedListing = savedListingRepository
-                .findByUserGUAndListingGU(user.getUserGU(), listingGU)
-                .orElseThrow(() -> new RuntimeException("Saved listing not found"));
-        
-        savedListingRepository.delete(savedListing);
+        savedListingRepository.unsaveIfPresent(user.getUserGU(), listingGU);
     }
     
     /**
@@ -88,6 +86,32 @@ public class SavedListingService {
         return savedListingRepository.existsByUserGUAndListingGU(user.getUserGU(), listingGU);
     }
     
+    /**
+     * Returns which of the given listings a user has saved.
+     * Used to render save (heart) state for a whole feed page at once.
+     * OPTIMIZED: Single IN query bounded by the page size, answered from the
+     * (user_gu, listing_gu) unique index.
+     *
+     * @param listingGUs the UUIDs of the listings to check, at most {@link #MAX_BATCH_STATUS_LISTINGS}
+     * @param user the user to check for
+     * @return the subset of listingGUs saved by the user, in request order
+     * @throws RuntimeException if too many listings are requested
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> getSavedSubset(Collection<UUID> listingGUs, User user) {
+        Set<UUID> ids = new LinkedHashSet<>(listingGUs);
+        ids.remove(null);
+        if (ids.size() > MAX_BATCH_STATUS_LISTINGS) {
+            throw new RuntimeException("Too many listings requested; maximum is " + MAX_BATCH_STATUS_LISTINGS);
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> saved = new HashSet<>(savedListingRepository.findSavedListingGUsIn(user.getUserGU(), ids));
+        return ids.stream().filter(saved::contains).toList();
+    }
+    
     /**
      * Retrieves all saved listings for a user with full listing details.
      * OPTIMIZED: Uses single JOIN query instead of fetching separately and filtering.
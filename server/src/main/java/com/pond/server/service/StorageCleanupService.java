@@ -0,0 +1,232 @@
+package com.pond.server.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pond.server.model.StorageDeletion;
+import com.pond.server.repository.StorageDeletionRepository;
+
+/**
+ * Service class for removing storage objects asynchronously.
+ *
+ * <p>Callers queue object keys in the transaction that deletes the rows referencing them.
+ * A scheduled worker claims due entries in batches, removes them with one Supabase bulk
+ * remove request per bucket, and deletes the entries. Entries survive crashes and failed
+ * requests, so cleanup resumes where it stopped: failed entries are retried with exponential
+ * backoff, and entries of a crashed worker once their lease expires. Entries that fail
+ * {@code pond.storage.cleanup-max-attempts} times are kept as dead letters and logged.
+ * Requests are paced so a large backlog does not exhaust the Supabase rate limit.</p>
+ */
+@Service
+public class StorageCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageCleanupService.class);
+
+    // Keys per enqueue statement
+    private static final int ENQUEUE_CHUNK = 1000;
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final SupabaseStorage supabaseStorage;
+    private final TransactionTemplate transactionTemplate;
+
+    // Entries claimed per batch; one bulk remove request per bucket in the batch (Supabase allows 1000)
+    @Value("${pond.storage.cleanup-batch-size:100}")
+    private int batchSize;
+
+    // How long a claimed entry stays invisible to other workers before it is retried
+    @Value("${pond.storage.cleanup-lease-seconds:300}")
+    private long leaseSeconds;
+
+    // Attempts after which an entry becomes a dead letter
+    @Value("${pond.storage.cleanup-max-attempts:8}")
+    private int maxAttempts;
+
+    // Retry delay after the first failure, doubled per attempt up to the maximum
+    @Value("${pond.storage.cleanup-backoff-base-seconds:30}")
+    private double backoffBaseSeconds;
+
+    @Value("${pond.storage.cleanup-backoff-max-seconds:21600}")
+    private double backoffMaxSeconds;
+
+    private final RequestPacer requestPacer;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * Constructs a new StorageCleanupService with required dependencies.
+     *
+     * @param storageDeletionRepository the repository for the deletion queue
+     * @param supabaseStorage the service for Supabase storage operations
+     * @param transactionTemplate the template used to claim and complete each batch in its own transaction
+     * @param requestsPerSecond the maximum rate of bulk remove requests; 0 disables pacing
+     */
+    public StorageCleanupService(StorageDeletionRepository storageDeletionRepository,
+                                 SupabaseStorage supabaseStorage,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${pond.storage.cleanup-requests-per-second:5}") double requestsPerSecond) {
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.supabaseStorage = supabaseStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.requestPacer = new RequestPacer(requestsPerSecond);
+    }
+
+    /**
+     * Queues objects of a bucket for removal. Null and blank keys are ignored.
+     * Joins the caller's transaction, so the objects are only removed if it commits.
+     *
+     * @param bucket the storage bucket
+     * @param keys the object keys
+     * @return number of entries added (keys already queued are not counted)
+     */
+    @Transactional
+    public int enqueue(String bucket, Collection<String> keys) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (key != null && !key.isBlank()) distinct.add(key);
+        }
+        if (distinct.isEmpty()) {
+            return 0;
+        }
+        List<String> ordered = new ArrayList<>(distinct);
+        LocalDateTime now = LocalDateTime.now();
+        int added = 0;
+        for (int from = 0; from < ordered.size(); from += ENQUEUE_CHUNK) {
+            added += storageDeletionRepository.enqueue(bucket,
+                ordered.subList(from, Math.min(ordered.size(), from + ENQUEUE_CHUNK)).toArray(String[]::new), now);
+        }
+        logger.debug("Queued {} objects from bucket {} for removal", added, bucket);
+        return added;
+    }
+
+    /**
+     * Queues objects of a bucket for removal by their public URLs.
+     * URLs that are blank or point outside the bucket are skipped.
+     *
+     * @param bucket the storage bucket
+     * @param urls the public object URLs
+     * @return number of entries added
+     */
+    @Transactional
+    public int enqueueUrls(String bucket, Collection<String> urls) {
+        List<String> keys = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            String key = SupabaseStorage.keyFromPublicUrl(bucket, url);
+            if (key != null) {
+                keys.add(key);
+            } else if (url != null && !url.isBlank()) {
+                logger.warn("Could not extract key from {} URL {}", bucket, url);
+            }
+        }
+        return enqueue(bucket, keys);
+    }
+
+    /**
+     * Gets the number of dead-letter entries, i.e. objects that could not be removed.
+     *
+     * @return the dead-letter count
+     */
+    @Transactional(readOnly = true)
+    public long getDeadLetterCount() {
+        return storageDeletionRepository.countDeadLetters(maxAttempts);
+    }
+
+    /**
+     * Scheduled task that drains the deletion queue.
+     * Runs every few seconds; each run processes batches until no due entries remain.
+     */
+    @Scheduled(fixedDelayString = "${pond.storage.cleanup-interval-ms:5000}")
+    public void drainQueue() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long removed = 0;
+            int processed;
+            do {
+                processed = processBatch();
+                removed += Math.max(processed, 0);
+            } while (processed == batchSize);
+            if (removed > 0) {
+                logger.info("Removed {} queued storage objects", removed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Storage cleanup run failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Claims one batch of due entries, removes the objects and completes the entries.
+     * Buckets whose request fails keep their entries, which are retried with backoff.
+     *
+     * @return the number of entries removed, or -1 if any bucket failed
+     * @throws InterruptedException if interrupted while waiting for the request pacer
+     */
+    private int processBatch() throws InterruptedException {
+        List<StorageDeletion> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<StorageDeletion> due = storageDeletionRepository.lockDue(now, maxAttempts, batchSize);
+            if (!due.isEmpty()) {
+                storageDeletionRepository.lease(due.stream().map(StorageDeletion::getId).toList(),
+                    now.plusSeconds(leaseSeconds));
+            }
+            return due;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<StorageDeletion>> byBucket = new LinkedHashMap<>();
+        for (StorageDeletion entry : claimed) {
+            byBucket.computeIfAbsent(entry.getBucket(), b -> new ArrayList<>()).add(entry);
+        }
+
+        List<UUID> done = new ArrayList<>(claimed.size());
+        boolean failed = false;
+        for (Map.Entry<String, List<StorageDeletion>> bucket : byBucket.entrySet()) {
+            List<UUID> ids = bucket.getValue().stream().map(StorageDeletion::getId).toList();
+            requestPacer.acquire();
+            try {
+                supabaseStorage.removeObjects(bucket.getKey(), bucket.getValue().stream().map(StorageDeletion::getObjectKey).toList());
+                done.addAll(ids);
+            } catch (Exception e) {
+                failed = true;
+                String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+                logger.warn("Removing {} objects from bucket {} failed, will retry: {}", ids.size(), bucket.getKey(), error);
+                transactionTemplate.executeWithoutResult(status ->
+                    storageDeletionRepository.recordFailure(ids, error.length() > 500 ? error.substring(0, 500) : error,
+                        LocalDateTime.now(), backoffBaseSeconds, backoffMaxSeconds));
+                long given = bucket.getValue().stream().filter(entry -> entry.getAttempts() + 1 >= maxAttempts).count();
+                if (given > 0) {
+                    logger.error("Gave up removing {} objects from bucket {} after {} attempts; they remain in storage_deletions",
+                        given, bucket.getKey(), maxAttempts);
+                }
+            }
+        }
+
+        if (!done.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> storageDeletionRepository.deleteByIdIn(done));
+        }
+        // A failed bucket ends this run so a persistent outage is not retried in a tight loop
+        return failed ? -1 : done.size();
+    }
+}
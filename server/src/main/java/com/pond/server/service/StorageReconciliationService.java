@@ -0,0 +1,175 @@
+package com.pond.server.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.pond.server.repository.StorageDeletionRepository;
+
+/**
+ * Service class for finding storage objects that no row references any more.
+ *
+ * <p>Objects can be orphaned by paths that never queue them, e.g. an upload whose transaction
+ * rolled back or a picture URL replaced through the API. A periodic sweep lists every object in
+ * the listing and avatar buckets, drops those still referenced by {@code listings.picture*_url}
+ * or {@code users.avatar_url}, and queues the rest with {@link StorageCleanupService}.
+ * Objects younger than a grace period are skipped, since uploads happen before the row
+ * referencing them is committed.</p>
+ */
+@Service
+public class StorageReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageReconciliationService.class);
+
+    // Entries per list request and keys per reference check (both Supabase and the query allow 1000)
+    private static final int PAGE_SIZE = 1000;
+
+    private final SupabaseStorage supabaseStorage;
+    private final StorageCleanupService storageCleanupService;
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final RequestPacer requestPacer;
+
+    @Value("${supabase.listing-bucket}")
+    private String listingBucket;
+
+    @Value("${supabase.pfp-bucket}")
+    private String pfpBucket;
+
+    // Minimum object age before it may be considered orphaned
+    @Value("${pond.storage.sweep-grace-hours:24}")
+    private long graceHours;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * Constructs a new StorageReconciliationService with required dependencies.
+     *
+     * @param supabaseStorage the service for Supabase storage operations
+     * @param storageCleanupService the service removing storage objects asynchronously
+     * @param storageDeletionRepository the repository used to check object references
+     * @param requestsPerSecond the maximum rate of list requests; 0 disables pacing
+     */
+    public StorageReconciliationService(SupabaseStorage supabaseStorage,
+                                        StorageCleanupService storageCleanupService,
+                                        StorageDeletionRepository storageDeletionRepository,
+                                        @Value("${pond.storage.sweep-requests-per-second:2}") double requestsPerSecond) {
+        this.supabaseStorage = supabaseStorage;
+        this.storageCleanupService = storageCleanupService;
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.requestPacer = new RequestPacer(requestsPerSecond);
+    }
+
+    /**
+     * Scheduled task that runs daily at 5:00 AM to queue orphaned objects of both buckets.
+     * Cron expression: "0 0 5 * * *" = every day at 05:00
+     */
+    @Scheduled(cron = "${pond.storage.sweep-cron:0 0 5 * * *}")
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Storage reconciliation already running on this instance - skipping");
+            return;
+        }
+        try {
+            Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+            for (String bucket : List.of(listingBucket, pfpBucket)) {
+                Result result = sweepBucket(bucket, cutoff);
+                logger.info("Storage reconciliation of bucket {}: {} objects scanned, {} orphans queued",
+                    bucket, result.scanned(), result.queued());
+            }
+            long deadLetters = storageCleanupService.getDeadLetterCount();
+            if (deadLetters > 0) {
+                logger.warn("{} storage objects could not be removed and need attention (storage_deletions)", deadLetters);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Storage reconciliation failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Walks every folder of a bucket and queues unreferenced objects older than the cutoff.
+     *
+     * @param bucket the storage bucket
+     * @param cutoff objects created after this instant are skipped
+     * @return the number of objects scanned and queued
+     * @throws InterruptedException if interrupted while waiting for the request pacer
+     */
+    public Result sweepBucket(String bucket, Instant cutoff) throws InterruptedException {
+        long scanned = 0;
+        long queued = 0;
+        List<String> candidates = new ArrayList<>(PAGE_SIZE);
+        Deque<String> folders = new ArrayDeque<>();
+        folders.push("");
+        while (!folders.isEmpty()) {
+            String folder = folders.pop();
+            String path = folder.isEmpty() ? "" : folder + "/";
+            int offset = 0;
+            List<SupabaseStorage.StoredObject> page;
+            do {
+                requestPacer.acquire();
+                page = supabaseStorage.listObjects(bucket, folder, PAGE_SIZE, offset);
+                offset += page.size();
+                for (SupabaseStorage.StoredObject object : page) {
+                    if (object.folder()) {
+                        folders.push(path + object.name());
+                        continue;
+                    }
+                    scanned++;
+                    if (object.createdAt() != null && object.createdAt().isBefore(cutoff)) {
+                        candidates.add(path + object.name());
+                        if (candidates.size() == PAGE_SIZE) {
+                            queued += queueUnreferenced(bucket, candidates);
+                            candidates.clear();
+                        }
+                    }
+                }
+            } while (page.size() == PAGE_SIZE);
+        }
+        if (!candidates.isEmpty()) {
+            queued += queueUnreferenced(bucket, candidates);
+        }
+        return new Result(scanned, queued);
+    }
+
+    /**
+     * Queues the candidates that no listing or user references.
+     *
+     * @param bucket the storage bucket
+     * @param candidates object keys found in the bucket
+     * @return the number of objects queued
+     */
+    private int queueUnreferenced(String bucket, List<String> candidates) {
+        String marker = "/storage/v1/object/public/" + bucket + "/";
+        Set<String> referenced = new HashSet<>(
+            storageDeletionRepository.findReferencedKeys(marker, candidates.toArray(String[]::new)));
+        List<String> orphans = candidates.stream().filter(key -> !referenced.contains(key)).toList();
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+        logger.debug("Queueing {} orphaned objects from bucket {}", orphans.size(), bucket);
+        return storageCleanupService.enqueue(bucket, orphans);
+    }
+
+    /**
+     * Record representing the outcome of sweeping one bucket.
+     *
+     * @param scanned the number of objects listed
+     * @param queued the number of orphaned objects newly queued for removal
+     */
+    public record Result(long scanned, long queued) {}
+}
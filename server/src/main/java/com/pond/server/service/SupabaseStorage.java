@@ -4,16 +4,40 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class for interacting with Supabase Storage API.
- * Handles file uploads and deletions in Supabase storage buckets.
+ * Handles file uploads, deletions and listings in Supabase storage buckets.
  */
 @Service
+@Timed(value = "pond.service", histogram = true)
 public class SupabaseStorage {
+    private static final Logger logger = LoggerFactory.getLogger(SupabaseStorage.class);
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // OPTIMIZED: One shared client, so connections are pooled instead of opened per call
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
     @Value("${supabase.url}") private String supabaseUrl;
     @Value("${supabase.storage-url}") private String storageUrl;
     @Value("${supabase.service-role-key}") private String serviceKey;
@@ -38,7 +62,7 @@ public class SupabaseStorage {
                 .header("Cache-Control", "public, max-age=31536000, immutable")
                 .PUT(HttpRequest.BodyPublishers.ofByteArray(bytes))
                 .build();
-            HttpResponse<Void> resp = HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.discarding());
+            HttpResponse<Void> resp = httpClient.send(req, HttpResponse.BodyHandlers.discarding());
             if (resp.statusCode() >= 300) throw new RuntimeException("Upload failed: " + resp.statusCode());
             return storageUrl + "/storage/v1/object/public/" + bucket + "/" + key; // Also update line 27 to use storageUrl
         } catch (Exception e) {
@@ -47,29 +71,101 @@ public class SupabaseStorage {
     }
 
     /**
-     * Deletes a file from a Supabase storage bucket.
-     * Logs success/failure for debugging purposes.
+     * Removes many objects from a bucket with one request to the bulk remove API.
+     * Keys that do not exist are ignored by Supabase, so retrying a partly applied batch is safe.
      *
      * @param bucket the name of the storage bucket
-     * @param key the file path/key within the bucket
-     * @throws RuntimeException if deletion fails
+     * @param keys the file paths/keys within the bucket (at most 1000)
+     * @throws RuntimeException if the request fails
      */
-    public void deleteObject(String bucket, String key){
-        String deleteUrl = storageUrl + "/storage/v1/object/" + bucket + "/" + key;
+    public void removeObjects(String bucket, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        String removeUrl = storageUrl + "/storage/v1/object/" + bucket;
         try {
             HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create(deleteUrl))
+                .uri(URI.create(removeUrl))
                 .header("Authorization", "Bearer " + serviceKey)
-                .DELETE()
+                .header("Content-Type", "application/json")
+                .method("DELETE", HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(Map.of("prefixes", keys))))
                 .build();
-            HttpResponse<Void> resp = HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.discarding());
+            HttpResponse<Void> resp = httpClient.send(req, HttpResponse.BodyHandlers.discarding());
             if (resp.statusCode() >= 300) {
-                throw new RuntimeException("Delete failed with status " + resp.statusCode() + " for URL: " + deleteUrl);
+                throw new RuntimeException("Bulk remove failed with status " + resp.statusCode() + " for bucket: " + bucket);
             }
-            System.out.println("Successfully deleted object from Supabase: " + deleteUrl);
+            logger.debug("Removed {} objects from Supabase bucket {}", keys.size(), bucket);
         } catch (Exception e) {
-            System.err.println("Supabase delete failed for URL: " + deleteUrl);
-            throw new RuntimeException("Supabase delete failed for bucket=" + bucket + ", key=" + key, e);
+            throw new RuntimeException("Supabase bulk remove failed for bucket=" + bucket, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Lists one page of the entries directly under a folder of a bucket, sorted by name.
+     * Sub-folders are returned as entries with {@code folder} set, not expanded.
+     *
+     * @param bucket the name of the storage bucket
+     * @param prefix the folder path without trailing slash, or an empty string for the root
+     * @param limit the maximum number of entries (Supabase allows up to 1000)
+     * @param offset the number of entries to skip
+     * @return the entries of the page; fewer than {@code limit} means the folder is exhausted
+     * @throws RuntimeException if the request fails
+     */
+    public List<StoredObject> listObjects(String bucket, String prefix, int limit, int offset) {
+        String listUrl = storageUrl + "/storage/v1/object/list/" + bucket;
+        try {
+            String body = JSON.writeValueAsString(Map.of(
+                "prefix", prefix,
+                "limit", limit,
+                "offset", offset,
+                "sortBy", Map.of("column", "name", "order", "asc")));
+            HttpRequest req = HttpRequest.newBuilder()
+                .uri(URI.create(listUrl))
+                .header("Authorization", "Bearer " + serviceKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+            HttpResponse<String> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
+            if (resp.statusCode() >= 300) {
+                throw new RuntimeException("List failed with status " + resp.statusCode() + " for bucket: " + bucket);
+            }
+            List<StoredObject> objects = new ArrayList<>();
+            for (JsonNode node : JSON.readTree(resp.body())) {
+                // Folders are synthesized by the API and have no id or timestamps
+                boolean folder = node.path("id").isNull() || node.path("id").isMissingNode();
+                String createdAt = node.path("created_at").asText(null);
+                objects.add(new StoredObject(node.path("name").asText(),
+                    folder,
+                    createdAt != null ? OffsetDateTime.parse(createdAt).toInstant() : null));
+            }
+            return objects;
+        } catch (Exception e) {
+            throw new RuntimeException("Supabase list failed for bucket=" + bucket + ", prefix=" + prefix, e);
+        }
+    }
+
+    /**
+     * Extracts the object key from a public object URL of a bucket.
+     *
+     * @param bucket the name of the storage bucket
+     * @param url a public URL, e.g. {@code {storageUrl}/storage/v1/object/public/{bucket}/{key}}
+     * @return the object key, or null if the URL is blank or not in the bucket
+     */
+    public static String keyFromPublicUrl(String bucket, String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        String marker = "/storage/v1/object/public/" + bucket + "/";
+        int idx = url.indexOf(marker);
+        return idx >= 0 ? url.substring(idx + marker.length()) : null;
+    }
+
+    /**
+     * Record representing one entry of a bucket listing.
+     *
+     * @param name the entry name relative to the listed folder
+     * @param folder whether the entry is a sub-folder
+     * @param createdAt when the object was created, or null for folders
+     */
+    public record StoredObject(String name, boolean folder, Instant createdAt) {}
+}
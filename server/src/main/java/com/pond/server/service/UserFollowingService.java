@@ -1,13 +1,23 @@
 package com.pond.server.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.pond.server.model.UserFollowCounts;
 import com.pond.server.model.UserFollowing;
+import com.pond.server.repository.MaintenanceMarkerRepository;
+import com.pond.server.repository.UserFollowCountsRepository;
 import com.pond.server.repository.UserFollowingRepository;
 import com.pond.server.repository.UserRepository;
 
@@ -18,28 +28,43 @@ import com.pond.server.repository.UserRepository;
 @Service
 public class UserFollowingService {
     
+    private static final Logger logger = LoggerFactory.getLogger(UserFollowingService.class);
+    
+    // Marker recording that follow counts were seeded from the follows table
+    private static final String COUNTS_SEEDED_MARKER = "follow-counts-seeded";
+    
     private final UserFollowingRepository userFollowingRepository;
     private final UserRepository userRepository;
+    private final UserFollowCountsRepository userFollowCountsRepository;
+    private final MaintenanceMarkerRepository maintenanceMarkerRepository;
     
     /**
      * Constructs a new UserFollowingService with required dependencies.
      *
      * @param userFollowingRepository the repository for user following data access
      * @param userRepository the repository for user data access
+     * @param userFollowCountsRepository the repository for denormalized follow counts
+     * @param maintenanceMarkerRepository the repository recording one-time seeding
      */
     public UserFollowingService(UserFollowingRepository userFollowingRepository,
-                               UserRepository userRepository) {
+                               UserRepository userRepository,
+                               UserFollowCountsRepository userFollowCountsRepository,
+                               MaintenanceMarkerRepository maintenanceMarkerRepository) {
         this.userFollowingRepository = userFollowingRepository;
         this.userRepository = userRepository;
+        this.userFollowCountsRepository = userFollowCountsRepository;
+        this.maintenanceMarkerRepository = maintenanceMarkerRepository;
     }
     
     /**
-     * Creates a following relationship between two users.
-     * Prevents self-following, following non-existent users, and duplicate follows.
+     * Creates a following relationship between two users and updates both users' counts.
+     * Idempotent: following a user who is already followed succeeds without changes.
+     * OPTIMIZED: Single INSERT ... ON CONFLICT DO NOTHING statement that also updates the
+     * counts; the user is only looked up again on the rare path where nothing was inserted.
      *
      * @param followerGU the UUID of the user initiating the follow
      * @param followingGU the UUID of the user being followed
-     * @throws IllegalArgumentException if validation fails
+     * @throws IllegalArgumentException if following yourself or the user does not exist
      */
     @Transactional
     public void followUser(UUID followerGU, UUID followingGU) {
@@ -48,34 +73,35 @@ public class UserFollowingService {
             throw new IllegalArgumentException("Cannot follow yourself");
         }
         
-        // Check if user to follow exists
-        if (!userRepository.existsById(followingGU)) {
+        int changed = userFollowingRepository.followIfAbsent(followerGU, followingGU, LocalDateTime.now());
+        if (changed == 0 && !userRepository.existsById(followingGU)) {
             throw new IllegalArgumentException("User to follow does not exist");
         }
-        
-        // Check if already following
-        if (userFollowingRepository.existsByFollowerGUAndFollowingGU(followerGU, followingGU)) {
-            throw new IllegalArgumentException("Already following this user");
-        }
-        
-        UserFollowing following = new UserFollowing(followerGU, followingGU);
-        userFollowingRepository.save(following);
     }
     
     /**
-     * Removes a following relationship between two users.
+     * Removes a following relationship between two users and updates both users' counts.
+     * Idempotent: unfollowing a user who is not followed succeeds without changes.
+     * OPTIMIZED: Single DELETE ... RETURNING statement that also updates the counts.
      *
      * @param followerGU the UUID of the user unfollowing
      * @param followingGU the UUID of the user being unfollowed
-     * @throws IllegalArgumentException if following relationship doesn't exist
      */
     @Transactional
     public void unfollowUser(UUID followerGU, UUID followingGU) {
-        UserFollowing following = userFollowingRepository
-            .findByFollowerGUAndFollowingGU(followerGU, followingGU)
-            .orElseThrow(() -> new IllegalArgumentException("Not following this user"));
-        
-        userFollowingRepository.delete(following);
+        userFollowingRepository.unfollowIfPresent(followerGU, followingGU);
+    }
+    
+    /**
+     * Adjusts follow counts for a user whose account is being deleted.
+     * Must run before the user's follows are removed by the database cascade.
+     *
+     * @param userGU the UUID of the user being deleted
+     */
+    @Transactional
+    public void removeCountsForDeletedUser(UUID userGU) {
+        userFollowCountsRepository.removeRelationsOf(userGU);
+        userFollowCountsRepository.deleteById(userGU);
     }
     
     /**
@@ -116,6 +142,23 @@ public class UserFollowingService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Gets follower and following counts for a user.
+     * OPTIMIZED: Single primary-key lookup on the denormalized counts instead of two COUNT queries.
+     *
+     * @param userGU the UUID of the user
+     * @return the user's counts (zero counts if the user has no follow relationships)
+     */
+    @Transactional(readOnly = true)
+    public UserFollowCounts getFollowCounts(UUID userGU) {
+        // No row means the user has never followed or been followed
+        return userFollowCountsRepository.findById(userGU).orElseGet(() -> {
+            UserFollowCounts empty = new UserFollowCounts();
+            empty.setUserGu(userGU);
+            return empty;
+        });
+    }
+    
     /**
      * Gets the count of followers for a user.
      *
@@ -124,7 +167,7 @@ public class UserFollowingService {
      */
     @Transactional(readOnly = true)
     public long getFollowerCount(UUID userGU) {
-        return userFollowingRepository.countFollowers(userGU);
+        return getFollowCounts(userGU).getFollowerCount();
     }
     
     /**
@@ -135,7 +178,46 @@ public class UserFollowingService {
      */
     @Transactional(readOnly = true)
     public long getFollowingCount(UUID userGU) {
-        return userFollowingRepository.countFollowing(userGU);
+        return getFollowCounts(userGU).getFollowingCount();
+    }
+    
+    /**
+     * Seeds follow counts from the follows table on first startup.
+     * Runs in the background so startup is not held up by the full scan. Follows served before
+     * it runs may already have created counts rows, so the seed is a locked rebuild gated on a
+     * marker rather than on an empty table; afterwards drift is left to {@link #reconcileFollowCounts()}.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillFollowCounts() {
+        if (maintenanceMarkerRepository.existsById(COUNTS_SEEDED_MARKER)) {
+            return;
+        }
+        logger.info("Follow counts not seeded yet - rebuilding from follows table");
+        rebuildFollowCounts();
+        maintenanceMarkerRepository.markCompleted(COUNTS_SEEDED_MARKER);
+    }
+    
+    /**
+     * Scheduled task that rebuilds follow counts from the follows table to repair drift.
+     * Cron expression: "0 15 4 * * *" = every day at 04:15
+     */
+    @Scheduled(cron = "0 15 4 * * *")
+    @Transactional
+    public void reconcileFollowCounts() {
+        logger.info("Starting scheduled task: reconcile follow counts");
+        rebuildFollowCounts();
+    }
+    
+    /**
+     * Recomputes every counts row from the follows table.
+     * The counts table is locked for the duration so concurrent deltas are neither lost nor double counted.
+     */
+    private void rebuildFollowCounts() {
+        userFollowCountsRepository.lockForRebuild();
+        userFollowCountsRepository.deleteAllCounts();
+        int rows = userFollowCountsRepository.backfillMissing();
+        logger.info("Rebuilt follow counts for {} users", rows);
     }
 }
-
@@ -5,15 +5,15 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.pond.server.dto.UpdateUserRequest;
 import com.pond.server.dto.UserProfileDTO;
-import com.pond.server.model.Listing;
 import com.pond.server.model.User;
-import com.pond.server.repository.ListingRepository;
 import com.pond.server.repository.UserRepository;
 
 /**
@@ -22,10 +22,14 @@ import com.pond.server.repository.UserRepository;
  */
 @Service
 public class UserService {
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     private final UserRepository userRepository;
-    private final ListingRepository listingRepository;
     private final ListingService listingService;
-    private final SupabaseStorage supabaseStorage;
+    private final StorageCleanupService storageCleanupService;
+    private final DisplayNameService displayNameService;
+    private final UserFollowingService userFollowingService;
+    private final ReviewService reviewService;
     
     @Value("${supabase.pfp-bucket}")
     private String pfpBucket;
@@ -34,20 +38,26 @@ public class UserService {
      * Constructs a new UserService with required dependencies.
      *
      * @param userRepository the repository for user data access
-     * @param listingRepository the repository for listing data access
      * @param listingService the service for listing operations
-     * @param supabaseStorage the service for Supabase storage operations
+     * @param storageCleanupService the service removing storage objects asynchronously
+     * @param displayNameService the service caching usernames for report enrichment
+     * @param userFollowingService the service maintaining follow counts
+     * @param reviewService the service maintaining rating aggregates
      */
     public UserService(
             UserRepository userRepository,
-            ListingRepository listingRepository,
             ListingService listingService,
-            SupabaseStorage supabaseStorage
+            StorageCleanupService storageCleanupService,
+            DisplayNameService displayNameService,
+            UserFollowingService userFollowingService,
+            ReviewService reviewService
     ) {
         this.userRepository = userRepository;
-        this.listingRepository = listingRepository;
         this.listingService = listingService;
-        this.supabaseStorage = supabaseStorage;
+        this.storageCleanupService = storageCleanupService;
+        this.displayNameService = displayNameService;
+        this.userFollowingService = userFollowingService;
+        this.reviewService = reviewService;
     }
 
     /**
@@ -124,6 +134,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        displayNameService.evictUser(savedUser.getUserGU());
         return new UserProfileDTO(
             savedUser.getUserGU(), 
             savedUser.getUsername(), 
@@ -150,10 +161,11 @@ public class UserService {
     /**
      * Deletes a user account and all associated data.
      * This includes:
-     * - User's avatar from Supabase storage
-     * - All listings owned by the user (with their images)
+     * - User's avatar and listing images, queued for removal from Supabase storage
+     * - All listings owned by the user, with their reports
      * - Chat rooms, messages, saved listings, and following relationships (via database CASCADE)
-     * Note: Reports are preserved for record-keeping purposes.
+     * OPTIMIZED: Runs a fixed number of set-based statements regardless of the number of listings,
+     * and no storage requests; images are removed in bulk after commit by {@link StorageCleanupService}.
      *
      * @param user the user entity to delete
      */
@@ -161,69 +173,30 @@ public class UserService {
     public void deleteAccount(User user) {
         UUID userGU = user.getUserGU();
         
-        System.out.println("Starting account deletion for user: " + userGU);
-        
-        // 1. Delete user's avatar from Supabase storage
-        deleteUserAvatar(user);
+        logger.info("Starting account deletion for user {}", userGU);
         
-        // 2. Delete all listings owned by the user (this handles Supabase image deletion)
-        List<Listing> userListings = listingRepository.findByUserGU(userGU);
-        System.out.println("Found " + userListings.size() + " listings to delete for user: " + userGU);
-        for (Listing listing : userListings) {
-            System.out.println("Deleting listing: " + listing.getListingGU());
-            listingService.delete(listing.getListingGU(), user);
+        // 1. Queue the user's avatar for removal from Supabase storage
+        String avatarUrl = user.getAvatar_url();
+        if (avatarUrl != null && !avatarUrl.isBlank()) {
+            storageCleanupService.enqueueUrls(pfpBucket, List.of(avatarUrl));
         }
         
+        // 2. Delete all listings owned by the user and their reports (images are queued as well)
+        int deletedListings = listingService.deleteAllOwnedBy(userGU);
+        
         // 3. Delete the user - database CASCADE will automatically delete:
         //    - Chat rooms (via seller_gu/buyer_gu foreign keys)
         //    - Messages (via sender_gu foreign key)
         //    - Saved listings (via user_gu foreign key)
         //    - User following relationships (via follower_gu/following_gu foreign keys)
-        // Note: Reports are kept for record-keeping purposes
-        System.out.println("Deleting user from database: " + userGU);
+        // Note: Reports filed by the user are kept for record-keeping purposes
+        // Follow counts and rating aggregates of related users are adjusted first,
+        // while the follows and reviews rows still exist
+        userFollowingService.removeCountsForDeletedUser(userGU);
+        reviewService.removeRatingsOfDeletedUser(userGU);
         userRepository.delete(user);
-        System.out.println("Account deletion completed for user: " + userGU);
-    }
-
-    /**
-     * Deletes a user's avatar from Supabase storage.
-     * Extracts the storage key from the avatar URL and performs deletion.
-     * Failure to delete the avatar does not prevent the rest of the account deletion.
-     *
-     * @param user the user whose avatar should be deleted
-     */
-    private void deleteUserAvatar(User user) {
-        String avatarUrl = user.getAvatar_url();
-        if (avatarUrl == null || avatarUrl.isBlank()) {
-            System.out.println("No avatar to delete for user: " + user.getUserGU());
-            return;
-        }
-        
-        System.out.println("Attempting to delete avatar: " + avatarUrl);
-        
-        // Extract the key from the avatar URL
-        // Format: {storageUrl}/storage/v1/object/public/{bucket}/{userGU}/{uuid}.jpg
-        String marker = "/storage/v1/object/public/" + pfpBucket + "/";
-        int idx = avatarUrl.indexOf(marker);
-        if (idx >= 0) {
-            String key = avatarUrl.substring(idx + marker.length());
-            System.out.println("Extracted avatar key: " + key + " from bucket: " + pfpBucket);
-            try {
-                supabaseStorage.deleteObject(pfpBucket, key);
-                System.out.println("Successfully deleted avatar from storage");
-            } catch (Exception e) {
-                // Log but don't fail the entire operation if avatar deletion fails
-                System.err.println("ERROR: Failed to delete avatar " + avatarUrl);
-                System.err.println("Key: " + key);
-                System.err.println("Bucket: " + pfpBucket);
-                System.err.println("Exception: " + e.getMessage());
-                e.printStackTrace();
-            }
-        } else {
-            System.err.println("WARNING: Could not extract key from avatar URL: " + avatarUrl);
-            System.err.println("Expected marker: " + marker);
-        }
+        displayNameService.evictUser(userGU);
+        logger.info("Account deletion completed for user {} ({} listings)", userGU, deletedListings);
     }
 
 }
-
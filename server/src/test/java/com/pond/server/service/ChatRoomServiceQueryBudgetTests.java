@@ -0,0 +1,84 @@
+package com.pond.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pond.server.dto.ChatRoomListDTO;
+import com.pond.server.model.ChatRoom;
+import com.pond.server.model.Listing;
+import com.pond.server.model.User;
+import com.pond.server.repository.ChatRoomRepository;
+import com.pond.server.repository.ListingRepository;
+import com.pond.server.repository.UserRepository;
+import com.pond.server.support.QueryBudget;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Query budget for the chat room list, one of the known N+1 paths.
+ * Each test runs in a transaction that is rolled back, so no fixture data is left behind.
+ */
+@SpringBootTest
+@Transactional
+class ChatRoomServiceQueryBudgetTests {
+
+    private static final int ROOMS = 3;
+
+    // Listing, other user, last message and unread count are each loaded per room
+    private static final int STATEMENTS_PER_ROOM = 4;
+
+    @Autowired
+    private ChatRoomService chatRoomService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void roomListStaysWithinPerRoomBudget() {
+        User seller = saveUser("seller");
+        for (int i = 0; i < ROOMS; i++) {
+            User buyer = saveUser("buyer" + i);
+            Listing listing = new Listing();
+            listing.setUserGU(seller.getUserGU());
+            listing.setTitle("Query budget listing " + i);
+            listing = listingRepository.save(listing);
+
+            ChatRoom room = new ChatRoom();
+            room.setRoomId("listing_" + listing.getListingGU() + "_buyer_" + buyer.getUserGU());
+            room.setListingGU(listing.getListingGU());
+            room.setSellerGU(seller.getUserGU());
+            room.setBuyerGU(buyer.getUserGU());
+            chatRoomRepository.save(room);
+        }
+        // Write the fixtures and empty the persistence context so lookups hit the database
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ChatRoomListDTO> rooms = QueryBudget.atMost(1 + (long) STATEMENTS_PER_ROOM * ROOMS,
+            () -> chatRoomService.getRoomListItems(seller.getUserGU()));
+
+        assertEquals(ROOMS, rooms.size());
+    }
+
+    private User saveUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User(prefix + "-" + suffix, prefix + "." + suffix + "@querybudget.test", "unused");
+        return userRepository.save(user);
+    }
+}
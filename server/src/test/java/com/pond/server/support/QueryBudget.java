@@ -0,0 +1,87 @@
+package com.pond.server.support;
+
+import java.util.function.Supplier;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * Asserts SQL statement budgets in integration tests.
+ *
+ * <p>Relies on the counting DataSource proxy installed by {@code DataSourceProxyConfiguration},
+ * which counts per thread. The measured code must therefore run on the test thread, as it does
+ * with direct service calls and MockMvc, but not with a real HTTP client.</p>
+ *
+ * <pre>
+ * List&lt;ChatRoomListDTO&gt; rooms = QueryBudget.atMost(3, () -&gt; chatRoomService.getRoomListItems(userGU));
+ * QueryBudget.selectsAtMost(2, () -&gt; userService.deleteAccount(user));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Runs an action and fails if it executes more statements than allowed.
+     *
+     * @param maxStatements the maximum number of SQL statements of any type
+     * @param action the code under test
+     * @param <T> the action's result type
+     * @return the action's result
+     * @throws AssertionError if the budget is exceeded
+     */
+    public static <T> T atMost(long maxStatements, Supplier<T> action) {
+        Measured<T> measured = run(action);
+        if (measured.count().getTotal() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements but was "
+                + describe(measured.count()));
+        }
+        return measured.result();
+    }
+
+    /**
+     * Runs an action and fails if it executes more SELECT statements than allowed.
+     *
+     * @param maxSelects the maximum number of SELECT statements
+     * @param action the code under test
+     * @throws AssertionError if the budget is exceeded
+     */
+    public static void selectsAtMost(long maxSelects, Runnable action) {
+        QueryCount count = measure(action);
+        if (count.getSelect() > maxSelects) {
+            throw new AssertionError("Expected at most " + maxSelects + " SELECT statements but was " + describe(count));
+        }
+    }
+
+    /**
+     * Runs an action and returns the statements it executed on this thread.
+     *
+     * @param action the code under test
+     * @return the statement counts
+     */
+    public static QueryCount measure(Runnable action) {
+        return run(() -> {
+            action.run();
+            return null;
+        }).count();
+    }
+
+    private static <T> Measured<T> run(Supplier<T> action) {
+        QueryCountHolder.clear();
+        try {
+            T result = action.get();
+            QueryCount total = QueryCountHolder.getGrandTotal();
+            return new Measured<>(result, total);
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    private static String describe(QueryCount count) {
+        return count.getTotal() + " (select=" + count.getSelect() + " insert=" + count.getInsert()
+            + " update=" + count.getUpdate() + " delete=" + count.getDelete() + " other=" + count.getOther() + ")";
+    }
+
+    private record Measured<T>(T result, QueryCount count) {}
+}